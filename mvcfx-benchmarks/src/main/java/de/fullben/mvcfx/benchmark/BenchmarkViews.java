@@ -0,0 +1,103 @@
+package de.fullben.mvcfx.benchmark;
+
+import de.fullben.mvcfx.Controller;
+import de.fullben.mvcfx.StageInitialization;
+import de.fullben.mvcfx.StatelessFxmlView;
+import de.fullben.mvcfx.StatelessStageView;
+import java.io.IOException;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+/**
+ * The views used by the benchmarks. The {@code fxml} views differ in the size of their node
+ * hierarchies: the medium view includes the small view five times, the large view includes the
+ * medium view four times.
+ *
+ * @author Benedikt Full
+ */
+public final class BenchmarkViews {
+
+  static final ResourceBundle RESOURCES =
+      new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+          return new Object[0][];
+        }
+      };
+  static final Controller CONTROLLER = () -> {};
+
+  private BenchmarkViews() {
+    throw new AssertionError();
+  }
+
+  /** The sizes of the {@code fxml} views. */
+  public enum Size {
+    SMALL,
+    MEDIUM,
+    LARGE;
+
+    StatelessFxmlView<Controller> create() throws IOException {
+      switch (this) {
+        case SMALL:
+          return new SmallView();
+        case MEDIUM:
+          return new MediumView();
+        case LARGE:
+          return new LargeView();
+        default:
+          throw new AssertionError(this);
+      }
+    }
+  }
+
+  static final class SmallView extends StatelessFxmlView<Controller> {
+
+    SmallView() throws IOException {
+      super(CONTROLLER, RESOURCES);
+      load();
+    }
+  }
+
+  static final class MediumView extends StatelessFxmlView<Controller> {
+
+    MediumView() throws IOException {
+      super(CONTROLLER, RESOURCES);
+      load();
+    }
+  }
+
+  static final class LargeView extends StatelessFxmlView<Controller> {
+
+    LargeView() throws IOException {
+      super(CONTROLLER, RESOURCES);
+      load();
+    }
+  }
+
+  static final class DialogView extends StatelessStageView<Controller> {
+
+    DialogView(StageInitialization initialization) {
+      super(CONTROLLER, RESOURCES, initialization);
+    }
+
+    @Override
+    protected Parent initRoot() {
+      return new VBox(new Label("Name"), new TextField(), new Button("OK"));
+    }
+
+    @Override
+    protected Stage initStage(Parent root) {
+      Stage stage = new Stage();
+      stage.setTitle("Dialog");
+      stage.setScene(new Scene(root));
+      return stage;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package de.fullben.mvcfx.benchmark;
+
+import de.fullben.mvcfx.Dialogs;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.control.Alert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of alerts via {@link Dialogs}, which includes registering them with the
+ * view manager and applying the current theme.
+ *
+ * @author Benedikt Full
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DialogBenchmark {
+
+  @Setup(Level.Trial)
+  public void startPlatform() throws InterruptedException {
+    FxPlatform.start();
+  }
+
+  @Benchmark
+  public Alert buildErrorAlert() throws Exception {
+    return FxPlatform.call(
+        () -> Dialogs.errorAlert().withHeader("Error").withContent("Something failed").build());
+  }
+
+  @Benchmark
+  public Object fxThreadRoundTrip() throws Exception {
+    // Baseline for the cost of handing an operation to the application thread
+    return FxPlatform.call(Object::new);
+  }
+}
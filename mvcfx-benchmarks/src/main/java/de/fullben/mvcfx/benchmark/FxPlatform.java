@@ -0,0 +1,59 @@
+package de.fullben.mvcfx.benchmark;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import javafx.application.Platform;
+
+/**
+ * Starts the JavaFX platform for the benchmarks and runs benchmarked operations on the JavaFX
+ * application thread. When run via the {@code jmh} task of the build, the platform is headless.
+ *
+ * @author Benedikt Full
+ */
+final class FxPlatform {
+
+  private static boolean started = false;
+
+  private FxPlatform() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Starts the JavaFX platform, unless it has been started already.
+   *
+   * @throws InterruptedException if interrupted while waiting for the platform to start
+   */
+  static synchronized void start() throws InterruptedException {
+    if (started) {
+      return;
+    }
+    CountDownLatch latch = new CountDownLatch(1);
+    Platform.startup(latch::countDown);
+    Platform.setImplicitExit(false);
+    latch.await();
+    started = true;
+  }
+
+  /**
+   * Runs the given operation on the JavaFX application thread and waits for its result.
+   *
+   * @param operation the operation to be run
+   * @param <T> the type of the result
+   * @return the result of the operation
+   * @throws Exception if the operation fails
+   */
+  static <T> T call(Callable<T> operation) throws Exception {
+    FutureTask<T> task = new FutureTask<>(operation);
+    Platform.runLater(task);
+    try {
+      return task.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception) {
+        throw (Exception) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
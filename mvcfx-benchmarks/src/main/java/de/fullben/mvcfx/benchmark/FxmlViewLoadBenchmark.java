@@ -0,0 +1,64 @@
+package de.fullben.mvcfx.benchmark;
+
+import de.fullben.mvcfx.View;
+import de.fullben.mvcfx.benchmark.BenchmarkViews.Size;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of {@code FxmlView}s, which includes loading their {@code fxml} files.
+ *
+ * <p>The cold benchmark measures the first view created in a fresh JVM, so it includes class
+ * loading, the lookup of the view file, and the interpreted execution of the loader. The warm
+ * benchmark measures views created after the JVM has warmed up. Each view is disposed right after
+ * its creation, so that the views do not accumulate in the registry of the view manager.
+ *
+ * @author Benedikt Full
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FxmlViewLoadBenchmark {
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  public Size size;
+
+  @Setup(Level.Trial)
+  public void startPlatform() throws InterruptedException {
+    FxPlatform.start();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Fork(10)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  public View<?, ?> coldLoad() throws Exception {
+    return FxPlatform.call(size::create);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @Fork(2)
+  @Warmup(iterations = 5, time = 2)
+  @Measurement(iterations = 5, time = 2)
+  public View<?, ?> warmLoad() throws Exception {
+    return FxPlatform.call(
+        () -> {
+          View<?, ?> view = size.create();
+          // Keeps the registry of the view manager from growing across invocations
+          view.dispose();
+          return view;
+        });
+  }
+}
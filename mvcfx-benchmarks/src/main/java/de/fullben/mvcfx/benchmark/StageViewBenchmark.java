@@ -0,0 +1,51 @@
+package de.fullben.mvcfx.benchmark;
+
+import de.fullben.mvcfx.StageInitialization;
+import de.fullben.mvcfx.View;
+import de.fullben.mvcfx.benchmark.BenchmarkViews.DialogView;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the construction of {@code StageView}s for each {@link StageInitialization} mode. The
+ * views are disposed right after their construction.
+ *
+ * @author Benedikt Full
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StageViewBenchmark {
+
+  @Param({"EAGER", "LAZY_STAGE", "LAZY"})
+  public StageInitialization initialization;
+
+  @Setup(Level.Trial)
+  public void startPlatform() throws InterruptedException {
+    FxPlatform.start();
+  }
+
+  @Benchmark
+  public View<?, ?> construct() throws Exception {
+    return FxPlatform.call(
+        () -> {
+          View<?, ?> view = new DialogView(initialization);
+          view.dispose();
+          return view;
+        });
+  }
+}
@@ -0,0 +1,106 @@
+package de.fullben.mvcfx.benchmark;
+
+import de.fullben.mvcfx.View;
+import de.fullben.mvcfx.ViewManager;
+import de.fullben.mvcfx.benchmark.BenchmarkViews.Size;
+import de.fullben.mvcfx.theme.OverridingStylesheetTheme;
+import de.fullben.mvcfx.theme.PlatformDefaultTheme;
+import de.fullben.mvcfx.theme.Theme;
+import de.fullben.mvcfx.theme.UserAgentStylesheetTheme;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javafx.application.Application;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ViewManager#setTheme(Theme)} with a varying number of registered views, for each
+ * of the built-in theme types. As the manager ignores themes equal to the current one, every
+ * invocation alternates between two instances of the same theme type.
+ *
+ * @author Benedikt Full
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ThemeSwitchBenchmark {
+
+  @Param({"PLATFORM_DEFAULT", "USER_AGENT_STYLESHEET", "OVERRIDING_STYLESHEET"})
+  public ThemeType themeType;
+
+  @Param({"10", "100"})
+  public int viewCount;
+
+  private List<View<?, ?>> views;
+  private Theme[] themes;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void registerViews() throws Exception {
+    FxPlatform.start();
+    views = new ArrayList<>();
+    for (int i = 0; i < viewCount; i++) {
+      views.add(FxPlatform.call(Size.SMALL::create));
+    }
+    themes = new Theme[] {themeType.create(), themeType.create()};
+    next = 0;
+  }
+
+  @TearDown(Level.Trial)
+  public void disposeViews() throws Exception {
+    FxPlatform.call(
+        () -> {
+          views.forEach(View::dispose);
+          ViewManager.get().setTheme(new PlatformDefaultTheme());
+          return null;
+        });
+  }
+
+  @Benchmark
+  public void setTheme() throws Exception {
+    Theme theme = themes[next];
+    next = 1 - next;
+    FxPlatform.call(
+        () -> {
+          ViewManager.get().setTheme(theme);
+          return null;
+        });
+  }
+
+  /** The built-in theme types. */
+  public enum ThemeType {
+    PLATFORM_DEFAULT(PlatformDefaultTheme::new),
+    USER_AGENT_STYLESHEET(() -> new UserAgentStylesheetTheme(Application.STYLESHEET_CASPIAN)),
+    OVERRIDING_STYLESHEET(
+        () ->
+            new OverridingStylesheetTheme(
+                ThemeSwitchBenchmark.class.getResource("/benchmark.css").toExternalForm(),
+                new PlatformDefaultTheme()));
+
+    private final Supplier<Theme> factory;
+
+    ThemeType(Supplier<Theme> factory) {
+      this.factory = factory;
+    }
+
+    private Theme create() {
+      return factory.get();
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package de.fullben.mvcfx.compiler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PropertyResourceBundle;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.lang.model.SourceVersion;
+
+/**
+ * Build-time tool which compiles {@code properties} resource bundles to Java classes extending
+ * {@link java.util.ListResourceBundle}. The generated classes hold the strings of the bundles as
+ * constants, so loading them requires neither locating nor parsing {@code properties} files at
+ * runtime.
+ *
+ * <p>The compiler is meant to be run as part of the build of an application, prior to the
+ * compilation of the application's Java sources. It expects at least three arguments:
+ *
+ * <ol>
+ *   <li>the resource directory containing the {@code properties} files,
+ *   <li>the directory the generated sources are written to,
+ *   <li>and the base names of the bundles to be compiled, e.g. {@code messages} or {@code
+ *       i18n.messages}.
+ * </ol>
+ *
+ * <p>Each {@code properties} file of a bundle family (e.g. {@code messages_de.properties}) is
+ * compiled to a class of the same name, in the package matching the directory of the file. As
+ * class-based bundles take precedence over {@code properties} files, {@link
+ * java.util.ResourceBundle#getBundle(String)} picks up the generated classes without further
+ * changes. {@link de.fullben.mvcfx.ResourceBundles ResourceBundles} additionally skips the search
+ * for {@code properties} files altogether.
+ *
+ * @see de.fullben.mvcfx.ResourceBundles
+ * @author Benedikt Full
+ */
+public final class BundleCompiler {
+
+  private static final String PROPERTIES_EXTENSION = ".properties";
+  private static final int ENTRIES_PER_METHOD = 256;
+
+  private BundleCompiler() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Compiles all {@code properties} files of the given bundle families.
+   *
+   * @param args the resource directory, the output directory, and the base names of the bundles
+   * @throws IOException if an error is encountered while reading or writing any of the files
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 3) {
+      throw new IllegalArgumentException(
+          "Usage: BundleCompiler <resource directory> <output directory> <base name>...");
+    }
+    for (int i = 2; i < args.length; i++) {
+      compileAll(Paths.get(args[0]), Paths.get(args[1]), args[i]);
+    }
+  }
+
+  /**
+   * Compiles all {@code properties} files of the bundle family with the given base name and writes
+   * the generated sources to the given output directory. Files whose names are not valid class
+   * names are skipped.
+   *
+   * @param resourceDir the resource directory containing the {@code properties} files
+   * @param outputDir the directory the generated sources are written to
+   * @param baseName the base name of the bundle family, as passed to {@link
+   *     java.util.ResourceBundle#getBundle(String)}
+   * @return the number of compiled files
+   * @throws IOException if an error is encountered while reading or writing any of the files
+   */
+  public static int compileAll(Path resourceDir, Path outputDir, String baseName)
+      throws IOException {
+    baseName = baseName.replace('.', '/');
+    int separator = baseName.lastIndexOf('/');
+    String simpleName = baseName.substring(separator + 1);
+    String packageName = "";
+    Path bundleDir = resourceDir;
+    if (separator >= 0) {
+      packageName = baseName.substring(0, separator).replace('/', '.');
+      bundleDir = resourceDir.resolve(baseName.substring(0, separator));
+    }
+    if (!Files.isDirectory(bundleDir)) {
+      return 0;
+    }
+    List<Path> propertiesFiles;
+    try (Stream<Path> files = Files.list(bundleDir)) {
+      propertiesFiles =
+          files
+              .filter(file -> isBundleFile(file.getFileName().toString(), simpleName))
+              .sorted()
+              .collect(Collectors.toList());
+    }
+    Path target = outputDir;
+    if (!packageName.isEmpty()) {
+      target = target.resolve(packageName.replace('.', '/'));
+    }
+    int compiled = 0;
+    for (Path propertiesFile : propertiesFiles) {
+      String filename = propertiesFile.getFileName().toString();
+      String className =
+          filename.substring(0, filename.length() - PROPERTIES_EXTENSION.length());
+      if (!SourceVersion.isName(className)) {
+        System.out.println("Skipping " + filename + ": not a valid class name");
+        continue;
+      }
+      String source;
+      try (InputStream in = Files.newInputStream(propertiesFile)) {
+        source = compile(in, packageName, className, filename);
+      }
+      Files.createDirectories(target);
+      Files.writeString(target.resolve(className + ".java"), source, StandardCharsets.UTF_8);
+      compiled++;
+    }
+    return compiled;
+  }
+
+  /**
+   * Compiles the given {@code properties} document to the source code of a {@link
+   * java.util.ListResourceBundle} class. The document is read like a {@link
+   * PropertyResourceBundle} reads it, so the generated bundle contains the same strings.
+   *
+   * @param properties the {@code properties} document
+   * @param packageName the package of the generated class, may be empty
+   * @param className the simple name of the generated class
+   * @param origin the name of the {@code properties} file, used for documentation purposes
+   * @return the Java source code of the generated class
+   * @throws IOException if the document cannot be read
+   */
+  static String compile(
+      InputStream properties, String packageName, String className, String origin)
+      throws IOException {
+    PropertyResourceBundle bundle = new PropertyResourceBundle(properties);
+    List<String> keys = new ArrayList<>(bundle.keySet());
+    Collections.sort(keys);
+    int methods = (keys.size() + ENTRIES_PER_METHOD - 1) / ENTRIES_PER_METHOD;
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source
+        .append("/** Generated by ")
+        .append(BundleCompiler.class.getName())
+        .append(" from ")
+        .append(origin)
+        .append(", do not edit. */\n")
+        .append("public final class ")
+        .append(className)
+        .append(" extends java.util.ListResourceBundle {\n\n")
+        .append("  @Override\n")
+        .append("  protected Object[][] getContents() {\n")
+        .append("    Object[][] contents = new Object[")
+        .append(keys.size())
+        .append("][];\n");
+    // Entries are split across methods to stay clear of the size limit of a single method
+    for (int method = 0; method < methods; method++) {
+      source.append("    contents").append(method).append("(contents);\n");
+    }
+    source.append("    return contents;\n").append("  }\n");
+    for (int method = 0; method < methods; method++) {
+      source
+          .append("\n  private static void contents")
+          .append(method)
+          .append("(Object[][] contents) {\n");
+      int end = Math.min(keys.size(), (method + 1) * ENTRIES_PER_METHOD);
+      for (int i = method * ENTRIES_PER_METHOD; i < end; i++) {
+        String key = keys.get(i);
+        source
+            .append("    contents[")
+            .append(i)
+            .append("] = new Object[] {")
+            .append(FxmlCompiler.stringLiteral(key))
+            .append(", ")
+            .append(FxmlCompiler.stringLiteral(bundle.getString(key)))
+            .append("};\n");
+      }
+      source.append("  }\n");
+    }
+    source.append("}\n");
+    return source.toString();
+  }
+
+  private static boolean isBundleFile(String filename, String simpleName) {
+    if (!filename.endsWith(PROPERTIES_EXTENSION)) {
+      return false;
+    }
+    String name = filename.substring(0, filename.length() - PROPERTIES_EXTENSION.length());
+    return name.equals(simpleName) || name.startsWith(simpleName + "_");
+  }
+}
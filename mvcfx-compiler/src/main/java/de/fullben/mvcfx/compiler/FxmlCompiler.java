@@ -0,0 +1,703 @@
+package de.fullben.mvcfx.compiler;
+
+import de.fullben.mvcfx.CompiledFxml;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javafx.beans.DefaultProperty;
+import javafx.beans.IDProperty;
+import javafx.beans.NamedArg;
+import javafx.beans.property.StringProperty;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.ProcessingInstruction;
+import org.xml.sax.SAXException;
+
+/**
+ * Build-time tool which compiles the {@code fxml} files of views to Java classes implementing
+ * {@link CompiledFxml}. A view for which such a class exists is built by plain Java code instead of
+ * having its {@code fxml} file parsed at runtime.
+ *
+ * <p>The compiler is meant to be run as part of the build of an application, prior to the
+ * compilation of the application's Java sources. It expects three arguments:
+ *
+ * <ol>
+ *   <li>the views resource directory containing the {@code fxml} files (see {@link
+ *       de.fullben.mvcfx.FxmlView FxmlView}),
+ *   <li>the Java source directory containing the view classes,
+ *   <li>and the directory the generated sources are written to.
+ * </ol>
+ *
+ * <p>As the views resource directory only identifies a view by its simple class name, the package
+ * of the generated class is taken from the source file of the view class with the same simple
+ * name. Only a subset of the {@code fxml} format is supported: object elements with attributes,
+ * static properties, property elements, default properties, {@code fx:id}s, resource references
+ * ({@code %key}) and event handler references ({@code #handler}). Files using any other feature
+ * (e.g. {@code fx:include}, {@code fx:define}, scripts, or expression bindings) are skipped, which
+ * means that the corresponding views will continue to load their {@code fxml} file at runtime.
+ *
+ * <p>Resource references of string properties are resolved through {@link
+ * CompiledFxml.Context#localize(javafx.beans.property.Property, String)}, so that these texts are
+ * updated when the locale of the application changes.
+ *
+ * @see CompiledFxml
+ * @author Benedikt Full
+ */
+public final class FxmlCompiler {
+
+  private static final String FXML_EXTENSION = ".fxml";
+  private static final Pattern PACKAGE_PATTERN =
+      Pattern.compile("^\\s*package\\s+([\\w.]+)\\s*;", Pattern.MULTILINE);
+  private final Map<String, String> imports;
+  private final List<String> wildcardImports;
+  private final StringBuilder body;
+  private int variableCount;
+
+  private FxmlCompiler() {
+    imports = new HashMap<>();
+    wildcardImports = new ArrayList<>();
+    body = new StringBuilder();
+    variableCount = 0;
+  }
+
+  /**
+   * Compiles all {@code fxml} files found in the given views directory.
+   *
+   * @param args the views resource directory, the Java source directory, and the output directory
+   * @throws IOException if an error is encountered while reading or writing any of the files
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      throw new IllegalArgumentException(
+          "Usage: FxmlCompiler <views directory> <source directory> <output directory>");
+    }
+    compileAll(Paths.get(args[0]), Paths.get(args[1]), Paths.get(args[2]));
+  }
+
+  /**
+   * Compiles all {@code fxml} files found in the given views directory and writes the generated
+   * sources to the given output directory. Files which cannot be compiled are skipped.
+   *
+   * @param viewsDir the directory containing the {@code fxml} files
+   * @param sourceDir the Java source directory containing the view classes
+   * @param outputDir the directory the generated sources are written to
+   * @return the number of compiled files
+   * @throws IOException if an error is encountered while reading or writing any of the files
+   */
+  public static int compileAll(Path viewsDir, Path sourceDir, Path outputDir) throws IOException {
+    if (!Files.isDirectory(viewsDir)) {
+      return 0;
+    }
+    Map<String, List<String>> packagesByView = findViewPackages(sourceDir);
+    List<Path> fxmlFiles;
+    try (Stream<Path> files = Files.list(viewsDir)) {
+      fxmlFiles =
+          files
+              .filter(file -> file.getFileName().toString().endsWith(FXML_EXTENSION))
+              .sorted()
+              .collect(Collectors.toList());
+    }
+    int compiled = 0;
+    for (Path fxmlFile : fxmlFiles) {
+      String filename = fxmlFile.getFileName().toString();
+      String viewName = filename.substring(0, filename.length() - FXML_EXTENSION.length());
+      List<String> packages = packagesByView.getOrDefault(viewName, List.of());
+      if (packages.size() != 1) {
+        System.out.println(
+            "Skipping " + filename + ": expected exactly one view class named " + viewName);
+        continue;
+      }
+      String packageName = packages.get(0);
+      String className = viewName + CompiledFxml.CLASS_NAME_SUFFIX;
+      String source;
+      try (InputStream in = Files.newInputStream(fxmlFile)) {
+        source = compile(in, packageName, className, filename);
+      } catch (UnsupportedFxmlException e) {
+        System.out.println("Skipping " + filename + ": " + e.getMessage());
+        continue;
+      }
+      Path target = outputDir;
+      if (!packageName.isEmpty()) {
+        target = target.resolve(packageName.replace('.', '/'));
+      }
+      Files.createDirectories(target);
+      Files.writeString(target.resolve(className + ".java"), source, StandardCharsets.UTF_8);
+      compiled++;
+    }
+    return compiled;
+  }
+
+  /**
+   * Compiles the given {@code fxml} document to the source code of a {@link CompiledFxml} class.
+   *
+   * @param fxml the {@code fxml} document
+   * @param packageName the package of the generated class, may be empty
+   * @param className the simple name of the generated class
+   * @param origin the name of the {@code fxml} file, used for documentation purposes
+   * @return the Java source code of the generated class
+   * @throws IOException if the document cannot be read
+   * @throws UnsupportedFxmlException if the document cannot be parsed or uses unsupported features
+   */
+  static String compile(InputStream fxml, String packageName, String className, String origin)
+      throws IOException, UnsupportedFxmlException {
+    Document document;
+    try {
+      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setNamespaceAware(false);
+      document = factory.newDocumentBuilder().parse(fxml);
+    } catch (ParserConfigurationException | SAXException e) {
+      throw new UnsupportedFxmlException("Malformed document: " + e.getMessage());
+    }
+    FxmlCompiler compiler = new FxmlCompiler();
+    NodeList nodes = document.getChildNodes();
+    for (int i = 0; i < nodes.getLength(); i++) {
+      Node node = nodes.item(i);
+      if (node instanceof ProcessingInstruction
+          && ((ProcessingInstruction) node).getTarget().equals("import")) {
+        compiler.addImport(((ProcessingInstruction) node).getData().trim());
+      }
+    }
+    Element root = document.getDocumentElement();
+    if (root.getTagName().equals("fx:root")) {
+      throw new UnsupportedFxmlException("fx:root is not supported");
+    }
+    String rootVariable = compiler.instantiate(root);
+    return compiler.generateSource(packageName, className, origin, rootVariable);
+  }
+
+  private String generateSource(
+      String packageName, String className, String origin, String rootVariable) {
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source
+        .append("/** Generated by ")
+        .append(FxmlCompiler.class.getName())
+        .append(" from ")
+        .append(origin)
+        .append(", do not edit. */\n")
+        .append("public final class ")
+        .append(className)
+        .append(" implements ")
+        .append(CompiledFxml.class.getCanonicalName())
+        .append(" {\n\n")
+        .append("  @Override\n")
+        .append("  @SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+        .append("  public javafx.scene.Parent build(")
+        .append(CompiledFxml.Context.class.getCanonicalName())
+        .append(" context) {\n")
+        .append(body)
+        .append("    return ")
+        .append(rootVariable)
+        .append(";\n")
+        .append("  }\n")
+        .append("}\n");
+    return source.toString();
+  }
+
+  private void addImport(String name) {
+    if (name.endsWith(".*")) {
+      wildcardImports.add(name.substring(0, name.length() - 1));
+    } else {
+      imports.put(name.substring(name.lastIndexOf('.') + 1), name);
+    }
+  }
+
+  private String instantiate(Element element) throws UnsupportedFxmlException {
+    Class<?> type = resolveType(element.getTagName());
+    Map<String, String> attributes = new LinkedHashMap<>();
+    String id = null;
+    NamedNodeMap attributeNodes = element.getAttributes();
+    for (int i = 0; i < attributeNodes.getLength(); i++) {
+      Attr attribute = (Attr) attributeNodes.item(i);
+      String name = attribute.getName();
+      if (name.equals("xmlns") || name.startsWith("xmlns:")) {
+        continue;
+      }
+      if (name.equals("fx:id")) {
+        id = attribute.getValue();
+      } else if (name.startsWith("fx:")) {
+        throw new UnsupportedFxmlException(name + " is not supported");
+      } else {
+        attributes.put(name, attribute.getValue());
+      }
+    }
+    // Like FXMLLoader, the fx:id is used as the id of the node, unless an id is given explicitly
+    IDProperty idProperty = type.getAnnotation(IDProperty.class);
+    boolean assignId =
+        id != null && idProperty != null && !attributes.containsKey(idProperty.value());
+    String variable = "n" + variableCount++;
+    if (hasPublicNoArgConstructor(type)) {
+      line(type.getCanonicalName() + " " + variable + " = new " + type.getCanonicalName() + "();");
+    } else {
+      line(
+          type.getCanonicalName()
+              + " "
+              + variable
+              + " = new "
+              + type.getCanonicalName()
+              + "("
+              + constructorArguments(type, attributes)
+              + ");");
+    }
+    for (Entry<String, String> attribute : attributes.entrySet()) {
+      String name = attribute.getKey();
+      String value = attribute.getValue();
+      if (name.contains(".")) {
+        setStaticProperty(variable, name, value);
+      } else if (name.startsWith("on") && value.startsWith("#")) {
+        Method setter = findSetter(type, name);
+        line(
+            variable
+                + "."
+                + setter.getName()
+                + "(context.handler("
+                + stringLiteral(value.substring(1))
+                + "));");
+      } else if (value.startsWith("%") && isStringProperty(type, name)) {
+        // Lets the view update the text when relabeled for a new locale
+        line(
+            "context.localize("
+                + variable
+                + "."
+                + name
+                + "Property(), "
+                + stringLiteral(value.substring(1))
+                + ");");
+      } else {
+        Method setter = findSetter(type, name);
+        line(
+            variable
+                + "."
+                + setter.getName()
+                + "("
+                + literal(setter.getParameterTypes()[0], value)
+                + ");");
+      }
+    }
+    for (Element child : childElements(element)) {
+      String tag = child.getTagName();
+      if (tag.startsWith("fx:")) {
+        throw new UnsupportedFxmlException(tag + " is not supported");
+      }
+      String propertyName = tag.substring(tag.lastIndexOf('.') + 1);
+      if (Character.isLowerCase(propertyName.charAt(0))) {
+        if (tag.contains(".")) {
+          setStaticProperty(variable, tag, child);
+        } else {
+          setProperty(type, variable, propertyName, childElements(child));
+        }
+      } else {
+        DefaultProperty defaultProperty = type.getAnnotation(DefaultProperty.class);
+        if (defaultProperty == null) {
+          throw new UnsupportedFxmlException(type.getName() + " has no default property");
+        }
+        setProperty(type, variable, defaultProperty.value(), List.of(child));
+      }
+    }
+    if (assignId) {
+      Method setter = findSetter(type, idProperty.value());
+      line(variable + "." + setter.getName() + "(" + stringLiteral(id) + ");");
+    }
+    if (id != null) {
+      line("context.register(" + stringLiteral(id) + ", " + variable + ");");
+    }
+    return variable;
+  }
+
+  private void setProperty(Class<?> type, String variable, String name, List<Element> values)
+      throws UnsupportedFxmlException {
+    Method getter = findGetter(type, name);
+    if (getter != null && List.class.isAssignableFrom(getter.getReturnType())) {
+      for (Element value : values) {
+        String valueVariable = instantiate(value);
+        line(variable + "." + getter.getName() + "().add(" + valueVariable + ");");
+      }
+      return;
+    }
+    if (values.size() != 1) {
+      throw new UnsupportedFxmlException(
+          "Property " + name + " of " + type.getName() + " requires exactly one value");
+    }
+    Method setter = findSetter(type, name);
+    String valueVariable = instantiate(values.get(0));
+    line(variable + "." + setter.getName() + "(" + valueVariable + ");");
+  }
+
+  private void setStaticProperty(String variable, String qualifiedName, String value)
+      throws UnsupportedFxmlException {
+    Method setter = findStaticSetter(qualifiedName);
+    line(
+        setter.getDeclaringClass().getCanonicalName()
+            + "."
+            + setter.getName()
+            + "("
+            + variable
+            + ", "
+            + literal(setter.getParameterTypes()[1], value)
+            + ");");
+  }
+
+  private void setStaticProperty(String variable, String qualifiedName, Element property)
+      throws UnsupportedFxmlException {
+    List<Element> values = childElements(property);
+    if (values.size() != 1) {
+      throw new UnsupportedFxmlException(qualifiedName + " requires exactly one value");
+    }
+    Method setter = findStaticSetter(qualifiedName);
+    String valueVariable = instantiate(values.get(0));
+    line(
+        setter.getDeclaringClass().getCanonicalName()
+            + "."
+            + setter.getName()
+            + "("
+            + variable
+            + ", "
+            + valueVariable
+            + ");");
+  }
+
+  private String constructorArguments(Class<?> type, Map<String, String> attributes)
+      throws UnsupportedFxmlException {
+    Set<String> instanceAttributes =
+        attributes.keySet().stream()
+            .filter(name -> !name.contains("."))
+            .collect(Collectors.toSet());
+    Constructor<?> match = null;
+    for (Constructor<?> constructor : type.getConstructors()) {
+      if (constructor.isVarArgs() || !hasNamedArguments(constructor)) {
+        continue;
+      }
+      Set<String> names =
+          Stream.of(constructor.getParameters())
+              .map(parameter -> parameter.getAnnotation(NamedArg.class).value())
+              .collect(Collectors.toSet());
+      if (names.containsAll(instanceAttributes)
+          && (match == null || constructor.getParameterCount() < match.getParameterCount())) {
+        match = constructor;
+      }
+    }
+    if (match == null) {
+      throw new UnsupportedFxmlException("No suitable constructor for " + type.getName());
+    }
+    List<String> arguments = new ArrayList<>();
+    for (Parameter parameter : match.getParameters()) {
+      NamedArg namedArg = parameter.getAnnotation(NamedArg.class);
+      String value = attributes.remove(namedArg.value());
+      if (value == null) {
+        value = namedArg.defaultValue();
+      }
+      arguments.add(defaultableLiteral(parameter.getType(), value));
+    }
+    return String.join(", ", arguments);
+  }
+
+  private String defaultableLiteral(Class<?> type, String value) throws UnsupportedFxmlException {
+    if (!value.isEmpty()) {
+      return literal(type, value);
+    }
+    if (type == boolean.class) {
+      return "false";
+    }
+    if (type.isPrimitive()) {
+      return literal(type, "0");
+    }
+    return "(" + type.getCanonicalName() + ") null";
+  }
+
+  private String literal(Class<?> type, String value) throws UnsupportedFxmlException {
+    if (value.startsWith("%")) {
+      if (!type.isAssignableFrom(String.class)) {
+        throw new UnsupportedFxmlException("Resource reference for non-string type: " + value);
+      }
+      return "context.getString(" + stringLiteral(value.substring(1)) + ")";
+    }
+    if (value.startsWith("$") || value.startsWith("@") || value.startsWith("#")) {
+      throw new UnsupportedFxmlException("Unsupported attribute value: " + value);
+    }
+    if (value.startsWith("\\")) {
+      value = value.substring(1);
+    }
+    try {
+      if (type == String.class || type == Object.class || type == CharSequence.class) {
+        return stringLiteral(value);
+      } else if (type == boolean.class || type == Boolean.class) {
+        return Boolean.toString(Boolean.parseBoolean(value));
+      } else if (type == double.class || type == Double.class) {
+        return doubleLiteral(Double.parseDouble(value));
+      } else if (type == float.class || type == Float.class) {
+        return floatLiteral(Float.parseFloat(value));
+      } else if (type == int.class || type == Integer.class) {
+        return Integer.toString(Integer.parseInt(value));
+      } else if (type == long.class || type == Long.class) {
+        return Long.parseLong(value) + "L";
+      } else if (type == short.class || type == Short.class) {
+        return "(short) " + Short.parseShort(value);
+      } else if (type == byte.class || type == Byte.class) {
+        return "(byte) " + Byte.parseByte(value);
+      }
+    } catch (NumberFormatException e) {
+      throw new UnsupportedFxmlException("Invalid value for " + type.getName() + ": " + value);
+    }
+    if (type.isEnum()) {
+      for (Object constant : type.getEnumConstants()) {
+        String name = ((Enum<?>) constant).name();
+        if (name.equals(value) || name.equals(value.toUpperCase())) {
+          return type.getCanonicalName() + "." + name;
+        }
+      }
+      throw new UnsupportedFxmlException("Unknown constant of " + type.getName() + ": " + value);
+    }
+    try {
+      Method valueOf = type.getMethod("valueOf", String.class);
+      if (Modifier.isStatic(valueOf.getModifiers()) && type.equals(valueOf.getReturnType())) {
+        return type.getCanonicalName() + ".valueOf(" + stringLiteral(value) + ")";
+      }
+    } catch (NoSuchMethodException e) {
+      // Handled below
+    }
+    throw new UnsupportedFxmlException("Cannot coerce value to " + type.getName() + ": " + value);
+  }
+
+  private static String doubleLiteral(double value) {
+    if (Double.isNaN(value)) {
+      return "Double.NaN";
+    } else if (value == Double.POSITIVE_INFINITY) {
+      return "Double.POSITIVE_INFINITY";
+    } else if (value == Double.NEGATIVE_INFINITY) {
+      return "Double.NEGATIVE_INFINITY";
+    }
+    return Double.toString(value);
+  }
+
+  private static String floatLiteral(float value) {
+    if (Float.isNaN(value)) {
+      return "Float.NaN";
+    } else if (value == Float.POSITIVE_INFINITY) {
+      return "Float.POSITIVE_INFINITY";
+    } else if (value == Float.NEGATIVE_INFINITY) {
+      return "Float.NEGATIVE_INFINITY";
+    }
+    return value + "f";
+  }
+
+  static String stringLiteral(String value) {
+    StringBuilder literal = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '"':
+          literal.append("\\\"");
+          break;
+        case '\\':
+          literal.append("\\\\");
+          break;
+        case '\n':
+          literal.append("\\n");
+          break;
+        case '\r':
+          literal.append("\\r");
+          break;
+        case '\t':
+          literal.append("\\t");
+          break;
+        default:
+          if (c < 0x20 || c > 0x7e) {
+            literal.append(String.format("\\u%04x", (int) c));
+          } else {
+            literal.append(c);
+          }
+      }
+    }
+    return literal.append('"').toString();
+  }
+
+  private Class<?> resolveType(String name) throws UnsupportedFxmlException {
+    if (name.contains(".") && !imports.containsKey(name)) {
+      throw new UnsupportedFxmlException("Unsupported element: " + name);
+    }
+    String importedName = imports.get(name);
+    if (importedName != null) {
+      return loadClass(importedName);
+    }
+    for (String wildcardImport : wildcardImports) {
+      try {
+        return Class.forName(wildcardImport + name, false, FxmlCompiler.class.getClassLoader());
+      } catch (ClassNotFoundException e) {
+        // Try next import
+      }
+    }
+    throw new UnsupportedFxmlException("Cannot resolve type: " + name);
+  }
+
+  private Method findStaticSetter(String qualifiedName) throws UnsupportedFxmlException {
+    int separator = qualifiedName.lastIndexOf('.');
+    Class<?> type = resolveType(qualifiedName.substring(0, separator));
+    String setterName = "set" + capitalize(qualifiedName.substring(separator + 1));
+    for (Method method : type.getMethods()) {
+      if (method.getName().equals(setterName)
+          && Modifier.isStatic(method.getModifiers())
+          && method.getParameterCount() == 2) {
+        return method;
+      }
+    }
+    throw new UnsupportedFxmlException("Unknown static property: " + qualifiedName);
+  }
+
+  private static Method findGetter(Class<?> type, String name) {
+    for (String prefix : new String[] {"get", "is"}) {
+      try {
+        return type.getMethod(prefix + capitalize(name));
+      } catch (NoSuchMethodException e) {
+        // Try next prefix
+      }
+    }
+    return null;
+  }
+
+  private static boolean isStringProperty(Class<?> type, String name) {
+    try {
+      Method property = type.getMethod(name + "Property");
+      return StringProperty.class.isAssignableFrom(property.getReturnType());
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static Method findSetter(Class<?> type, String name) throws UnsupportedFxmlException {
+    String setterName = "set" + capitalize(name);
+    Method getter = findGetter(type, name);
+    if (getter != null) {
+      try {
+        return type.getMethod(setterName, getter.getReturnType());
+      } catch (NoSuchMethodException e) {
+        // Fall back to the setters of the type
+      }
+    }
+    Method setter = null;
+    for (Method method : type.getMethods()) {
+      if (method.getName().equals(setterName)
+          && !Modifier.isStatic(method.getModifiers())
+          && method.getParameterCount() == 1) {
+        if (setter != null) {
+          throw new UnsupportedFxmlException("Ambiguous property " + name + " of " + type);
+        }
+        setter = method;
+      }
+    }
+    if (setter == null) {
+      throw new UnsupportedFxmlException("Unknown property " + name + " of " + type.getName());
+    }
+    return setter;
+  }
+
+  private static boolean hasPublicNoArgConstructor(Class<?> type) {
+    try {
+      type.getConstructor();
+      return !Modifier.isAbstract(type.getModifiers());
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static boolean hasNamedArguments(Constructor<?> constructor) {
+    for (Parameter parameter : constructor.getParameters()) {
+      if (parameter.getAnnotation(NamedArg.class) == null) {
+        return false;
+      }
+    }
+    return constructor.getParameterCount() > 0;
+  }
+
+  private static Class<?> loadClass(String name) throws UnsupportedFxmlException {
+    try {
+      return Class.forName(name, false, FxmlCompiler.class.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new UnsupportedFxmlException("Cannot resolve type: " + name);
+    }
+  }
+
+  private static List<Element> childElements(Element element) throws UnsupportedFxmlException {
+    List<Element> children = new ArrayList<>();
+    NodeList nodes = element.getChildNodes();
+    for (int i = 0; i < nodes.getLength(); i++) {
+      Node node = nodes.item(i);
+      if (node instanceof Element) {
+        children.add((Element) node);
+      } else if (node.getNodeType() == Node.TEXT_NODE && !node.getNodeValue().isBlank()) {
+        throw new UnsupportedFxmlException("Text content is not supported");
+      } else if (node instanceof ProcessingInstruction) {
+        throw new UnsupportedFxmlException("Nested processing instructions are not supported");
+      }
+    }
+    return children;
+  }
+
+  private static Map<String, List<String>> findViewPackages(Path sourceDir) throws IOException {
+    Map<String, List<String>> packages = new HashMap<>();
+    if (!Files.isDirectory(sourceDir)) {
+      return packages;
+    }
+    List<Path> sourceFiles;
+    try (Stream<Path> files = Files.walk(sourceDir)) {
+      sourceFiles =
+          files
+              .filter(file -> file.getFileName().toString().endsWith(".java"))
+              .collect(Collectors.toList());
+    }
+    for (Path sourceFile : sourceFiles) {
+      String filename = sourceFile.getFileName().toString();
+      String className = filename.substring(0, filename.length() - ".java".length());
+      Matcher matcher =
+          PACKAGE_PATTERN.matcher(Files.readString(sourceFile, StandardCharsets.UTF_8));
+      String packageName = matcher.find() ? matcher.group(1) : "";
+      packages.computeIfAbsent(className, k -> new ArrayList<>()).add(packageName);
+    }
+    return packages;
+  }
+
+  private static String capitalize(String name) {
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private void line(String statement) {
+    body.append("    ").append(statement).append('\n');
+  }
+
+  /**
+   * Indicates that an {@code fxml} document cannot be compiled, either because it is malformed or
+   * because it uses a feature not supported by the {@link FxmlCompiler}.
+   *
+   * @author Benedikt Full
+   */
+  static class UnsupportedFxmlException extends Exception {
+
+    UnsupportedFxmlException(String message) {
+      super(message);
+    }
+  }
+}
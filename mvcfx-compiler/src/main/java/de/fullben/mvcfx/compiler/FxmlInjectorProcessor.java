@@ -0,0 +1,349 @@
+package de.fullben.mvcfx.compiler;
+
+import de.fullben.mvcfx.FxmlInjector;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Annotation processor which generates an {@link FxmlInjector} for each concrete {@link
+ * de.fullben.mvcfx.FxmlView FxmlView} class of an application. The injectors assign fields and
+ * create event handlers with plain Java code, so that views built from a {@link
+ * de.fullben.mvcfx.CompiledFxml CompiledFxml} are wired without any reflection.
+ *
+ * <p>Members are considered injectable following the rules of the {@link javafx.fxml.FXMLLoader}:
+ * they must either be annotated with {@code @FXML} or be public. As the generated injector accesses
+ * the members directly, no injector is generated for views with injectable members which are
+ * {@code private} (or otherwise not accessible from the package of the view). Such views are wired
+ * reflectively, just like before.
+ *
+ * <p>The processor is registered as a service of the {@code mvcfx-compiler} artifact, and is only
+ * enabled by adding that artifact to the annotation processor path of an application. The runtime
+ * library does not contain it, so compiling against the library does not run the processor.
+ *
+ * @see FxmlInjector
+ * @author Benedikt Full
+ */
+@SupportedAnnotationTypes(FxmlInjectorProcessor.FXML)
+public final class FxmlInjectorProcessor extends AbstractProcessor {
+
+  static final String FXML = "javafx.fxml.FXML";
+  private static final String FXML_VIEW = "de.fullben.mvcfx.FxmlView";
+  private static final String EVENT = "javafx.event.Event";
+  private static final String INITIALIZE = "initialize";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    Elements elements = processingEnv.getElementUtils();
+    TypeElement fxmlView = elements.getTypeElement(FXML_VIEW);
+    TypeElement event = elements.getTypeElement(EVENT);
+    if (fxmlView == null || event == null) {
+      return false;
+    }
+    for (TypeElement view : findViews(roundEnv.getRootElements(), fxmlView)) {
+      try {
+        generateInjector(view, fxmlView, event);
+      } catch (IOException e) {
+        processingEnv
+            .getMessager()
+            .printMessage(Kind.ERROR, "Failed to write injector: " + e.getMessage(), view);
+      }
+    }
+    // Do not claim the annotation, other processors may be interested in it as well
+    return false;
+  }
+
+  private List<TypeElement> findViews(Set<? extends Element> rootElements, TypeElement fxmlView) {
+    List<TypeElement> views = new ArrayList<>();
+    Types types = processingEnv.getTypeUtils();
+    TypeMirror fxmlViewType = types.erasure(fxmlView.asType());
+    List<TypeElement> candidates = new ArrayList<>(ElementFilter.typesIn(rootElements));
+    for (int i = 0; i < candidates.size(); i++) {
+      TypeElement candidate = candidates.get(i);
+      candidates.addAll(ElementFilter.typesIn(candidate.getEnclosedElements()));
+      if (candidate.getKind() == ElementKind.CLASS
+          && !candidate.getModifiers().contains(Modifier.ABSTRACT)
+          && !candidate.getModifiers().contains(Modifier.PRIVATE)
+          && types.isSubtype(types.erasure(candidate.asType()), fxmlViewType)) {
+        views.add(candidate);
+      }
+    }
+    return views;
+  }
+
+  private void generateInjector(TypeElement view, TypeElement fxmlView, TypeElement event)
+      throws IOException {
+    Elements elements = processingEnv.getElementUtils();
+    Types types = processingEnv.getTypeUtils();
+    PackageElement viewPackage = elements.getPackageOf(view);
+    Map<String, VariableElement> fields = new LinkedHashMap<>();
+    Map<String, ExecutableElement> handlers = new LinkedHashMap<>();
+    ExecutableElement initialize = null;
+    for (TypeElement type = view;
+        type != null && !type.equals(fxmlView);
+        type = superclassOf(type)) {
+      boolean libraryType = elements.getPackageOf(type).equals(elements.getPackageOf(fxmlView));
+      for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+        if (!isInjectable(field, libraryType) || fields.containsKey(name(field))) {
+          continue;
+        }
+        if (!isAccessible(field, viewPackage)) {
+          skip(view, field);
+          return;
+        }
+        fields.put(name(field), field);
+      }
+      for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+        if (!isInjectable(method, libraryType)
+            || !isHandlerSignature(method, event)
+            || handlers.containsKey(name(method))) {
+          continue;
+        }
+        if (!isAccessible(method, viewPackage)) {
+          skip(view, method);
+          return;
+        }
+        handlers.put(name(method), method);
+        if (initialize == null
+            && name(method).equals(INITIALIZE)
+            && method.getParameters().isEmpty()) {
+          initialize = method;
+        }
+      }
+    }
+    String binaryName = elements.getBinaryName(view).toString();
+    String packageName = viewPackage.getQualifiedName().toString();
+    String simpleName =
+        (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+            + FxmlInjector.CLASS_NAME_SUFFIX;
+    String source =
+        generateSource(
+            packageName,
+            simpleName,
+            types.erasure(view.asType()).toString(),
+            fields,
+            handlers,
+            initialize);
+    String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    try (Writer writer =
+        processingEnv.getFiler().createSourceFile(qualifiedName, view).openWriter()) {
+      writer.write(source);
+    }
+  }
+
+  private String generateSource(
+      String packageName,
+      String simpleName,
+      String viewType,
+      Map<String, VariableElement> fields,
+      Map<String, ExecutableElement> handlers,
+      ExecutableElement initialize) {
+    Types types = processingEnv.getTypeUtils();
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source
+        .append("/** Generated by ")
+        .append(FxmlInjectorProcessor.class.getName())
+        .append(", do not edit. */\n")
+        .append("public final class ")
+        .append(simpleName)
+        .append(" implements ")
+        .append(FxmlInjector.class.getCanonicalName())
+        .append("<")
+        .append(viewType)
+        .append("> {\n\n");
+    // Field injection
+    source
+        .append("  @Override\n")
+        .append("  @SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+        .append("  public void inject(")
+        .append(viewType)
+        .append(" view, String id, Object element) {\n")
+        .append("    switch (id) {\n");
+    for (VariableElement field : fields.values()) {
+      TypeMirror type = field.asType();
+      String cast =
+          type.getKind().isPrimitive()
+              ? types.boxedClass(types.getPrimitiveType(type.getKind())).toString()
+              : types.erasure(type).toString();
+      source
+          .append("      case \"")
+          .append(name(field))
+          .append("\":\n")
+          .append("        view.")
+          .append(name(field))
+          .append(" = (")
+          .append(cast)
+          .append(") element;\n")
+          .append("        break;\n");
+    }
+    source
+        .append("      default:\n")
+        .append("        break;\n")
+        .append("    }\n")
+        .append("  }\n\n");
+    // Event handlers
+    source
+        .append("  @Override\n")
+        .append("  public <T extends javafx.event.Event> javafx.event.EventHandler<T> handler(\n")
+        .append("      ")
+        .append(viewType)
+        .append(" view, String methodName) {\n")
+        .append("    switch (methodName) {\n");
+    for (ExecutableElement handler : handlers.values()) {
+      String argument =
+          handler.getParameters().isEmpty()
+              ? ""
+              : "(" + types.erasure(handler.getParameters().get(0).asType()) + ") event";
+      source
+          .append("      case \"")
+          .append(name(handler))
+          .append("\":\n")
+          .append("        return event -> ")
+          .append(invocation(handler, "view." + name(handler) + "(" + argument + ")"))
+          .append(";\n");
+    }
+    source
+        .append("      default:\n")
+        .append("        return null;\n")
+        .append("    }\n")
+        .append("  }\n\n");
+    // Initialization
+    source
+        .append("  @Override\n")
+        .append("  public void initialize(")
+        .append(viewType)
+        .append(" view) {\n");
+    if (initialize != null) {
+      source
+          .append("    ")
+          .append(statement(initialize, "view." + INITIALIZE + "()", "    "))
+          .append("\n");
+    }
+    source.append("  }\n").append("}\n");
+    return source.toString();
+  }
+
+  private static String invocation(ExecutableElement method, String call) {
+    if (method.getThrownTypes().isEmpty()) {
+      return call;
+    }
+    return "{\n          " + statement(method, call, "          ") + "\n        }";
+  }
+
+  private static String statement(ExecutableElement method, String call, String indent) {
+    if (method.getThrownTypes().isEmpty()) {
+      return call + ";";
+    }
+    return "try {\n"
+        + indent
+        + "  "
+        + call
+        + ";\n"
+        + indent
+        + "} catch (RuntimeException e) {\n"
+        + indent
+        + "  throw e;\n"
+        + indent
+        + "} catch (Exception e) {\n"
+        + indent
+        + "  throw new RuntimeException(e);\n"
+        + indent
+        + "}";
+  }
+
+  private boolean isHandlerSignature(ExecutableElement method, TypeElement event) {
+    List<? extends VariableElement> parameters = method.getParameters();
+    if (parameters.isEmpty()) {
+      return true;
+    }
+    Types types = processingEnv.getTypeUtils();
+    return parameters.size() == 1
+        && types.isSubtype(
+            types.erasure(parameters.get(0).asType()), types.erasure(event.asType()));
+  }
+
+  private static boolean isInjectable(Element member, boolean libraryType) {
+    Set<Modifier> modifiers = member.getModifiers();
+    if (modifiers.contains(Modifier.STATIC)) {
+      return false;
+    }
+    if (isAnnotatedWithFxml(member)) {
+      return true;
+    }
+    // Public members of the library's own view classes are never used for injection
+    return !libraryType && modifiers.contains(Modifier.PUBLIC);
+  }
+
+  private static boolean isAnnotatedWithFxml(Element member) {
+    return member.getAnnotationMirrors().stream()
+        .anyMatch(
+            annotation ->
+                ((TypeElement) annotation.getAnnotationType().asElement())
+                    .getQualifiedName()
+                    .contentEquals(FXML));
+  }
+
+  private boolean isAccessible(Element member, PackageElement viewPackage) {
+    Set<Modifier> modifiers = member.getModifiers();
+    if (modifiers.contains(Modifier.PRIVATE)) {
+      return false;
+    }
+    return modifiers.contains(Modifier.PUBLIC)
+        || processingEnv.getElementUtils().getPackageOf(member).equals(viewPackage);
+  }
+
+  private void skip(TypeElement view, Element member) {
+    processingEnv
+        .getMessager()
+        .printMessage(
+            Kind.NOTE,
+            "No injector generated for "
+                + view.getQualifiedName()
+                + ", member "
+                + name(member)
+                + " is not accessible from the package of the view",
+            member);
+  }
+
+  private static TypeElement superclassOf(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    return (TypeElement) ((DeclaredType) superclass).asElement();
+  }
+
+  private static String name(Element element) {
+    return element.getSimpleName().toString();
+  }
+}
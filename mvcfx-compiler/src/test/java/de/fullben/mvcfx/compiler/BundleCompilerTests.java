@@ -0,0 +1,59 @@
+package de.fullben.mvcfx.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Some basic smoke tests for the {@link BundleCompiler}.
+ *
+ * @author Benedikt Full
+ */
+public class BundleCompilerTests {
+
+  @Test
+  public void compileGeneratesEscapedSortedEntries() throws Exception {
+    // Given
+    String properties = "title=Save file {0}?\nabout=\\u00d6ffnen \"x\"\n";
+    // When
+    String source = compile(properties);
+    // Then
+    assertTrue(source.contains("package test.i18n;"));
+    assertTrue(
+        source.contains("public final class messages_de extends java.util.ListResourceBundle"));
+    assertTrue(source.contains("Object[][] contents = new Object[2][];"));
+    assertTrue(
+        source.contains("contents[0] = new Object[] {\"about\", \"\\u00d6ffnen \\\"x\\\"\"};"));
+    assertTrue(source.contains("contents[1] = new Object[] {\"title\", \"Save file {0}?\"};"));
+  }
+
+  @Test
+  public void compileAllCompilesFilesOfBundleFamily(@TempDir Path dir) throws Exception {
+    // Given
+    Path resources = Files.createDirectories(dir.resolve("resources/i18n"));
+    Files.writeString(resources.resolve("messages_en.properties"), "a=b\n");
+    Files.writeString(resources.resolve("messages_de.properties"), "a=c\n");
+    Files.writeString(resources.resolve("other_en.properties"), "a=d\n");
+    Path output = dir.resolve("output");
+    // When
+    int compiled = BundleCompiler.compileAll(dir.resolve("resources"), output, "i18n.messages");
+    // Then
+    assertEquals(2, compiled);
+    assertTrue(Files.exists(output.resolve("i18n/messages_en.java")));
+    assertTrue(Files.exists(output.resolve("i18n/messages_de.java")));
+  }
+
+  private static String compile(String properties) throws Exception {
+    return BundleCompiler.compile(
+        new ByteArrayInputStream(properties.getBytes(StandardCharsets.ISO_8859_1)),
+        "test.i18n",
+        "messages_de",
+        "messages_de.properties");
+  }
+}
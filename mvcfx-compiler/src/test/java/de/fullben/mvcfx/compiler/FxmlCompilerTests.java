@@ -0,0 +1,96 @@
+package de.fullben.mvcfx.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.fullben.mvcfx.compiler.FxmlCompiler.UnsupportedFxmlException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Some basic smoke tests for the {@link FxmlCompiler}.
+ *
+ * @author Benedikt Full
+ */
+public class FxmlCompilerTests {
+
+  private static final String HEADER =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+          + "<?import javafx.scene.control.*?>\n"
+          + "<?import javafx.scene.layout.AnchorPane?>\n";
+
+  @Test
+  public void compileGeneratesSettersAndStaticProperties() throws Exception {
+    // Given
+    String fxml =
+        HEADER
+            + "<AnchorPane prefWidth=\"350.0\" xmlns:fx=\"http://javafx.com/fxml/1\">"
+            + "<children><Button AnchorPane.topAnchor=\"5.0\" defaultButton=\"true\"/></children>"
+            + "</AnchorPane>";
+    // When
+    String source = compile(fxml);
+    // Then
+    assertTrue(source.contains("package test.views;"));
+    assertTrue(source.contains("public final class TestViewFxml"));
+    assertTrue(source.contains("n0.setPrefWidth(350.0);"));
+    assertTrue(source.contains("javafx.scene.layout.AnchorPane.setTopAnchor(n1, 5.0);"));
+    assertTrue(source.contains("n1.setDefaultButton(true);"));
+    assertTrue(source.contains("n0.getChildren().add(n1);"));
+  }
+
+  @Test
+  public void compileResolvesResourcesHandlersAndIds() throws Exception {
+    // Given
+    String fxml =
+        HEADER
+            + "<AnchorPane xmlns:fx=\"http://javafx.com/fxml/1\">"
+            + "<Button fx:id=\"btn\" onAction=\"#handleClick\" text=\"%btn.text\"/>"
+            + "</AnchorPane>";
+    // When
+    String source = compile(fxml);
+    // Then
+    assertTrue(source.contains("n1.setOnAction(context.handler(\"handleClick\"));"));
+    assertTrue(source.contains("context.localize(n1.textProperty(), \"btn.text\");"));
+    assertTrue(source.contains("context.register(\"btn\", n1);"));
+  }
+
+  @Test
+  public void compileUsesIdsAsNodeIdsUnlessGivenExplicitly() throws Exception {
+    // Given
+    String fxml =
+        HEADER
+            + "<AnchorPane xmlns:fx=\"http://javafx.com/fxml/1\">"
+            + "<Button fx:id=\"btn\"/>"
+            + "<Label fx:id=\"lbl\" id=\"label\"/>"
+            + "</AnchorPane>";
+    // When
+    String source = compile(fxml);
+    // Then
+    assertTrue(source.contains("n1.setId(\"btn\");"));
+    assertTrue(source.contains("n2.setId(\"label\");"));
+    assertFalse(source.contains("n2.setId(\"lbl\");"));
+    assertTrue(source.contains("context.register(\"lbl\", n2);"));
+  }
+
+  @Test
+  public void compileRejectsUnsupportedFeatures() {
+    // Given
+    String fxml =
+        HEADER
+            + "<AnchorPane xmlns:fx=\"http://javafx.com/fxml/1\">"
+            + "<fx:include source=\"Other.fxml\"/>"
+            + "</AnchorPane>";
+    // When, then
+    assertThrows(UnsupportedFxmlException.class, () -> compile(fxml));
+  }
+
+  private static String compile(String fxml) throws Exception {
+    return FxmlCompiler.compile(
+        new ByteArrayInputStream(fxml.getBytes(StandardCharsets.UTF_8)),
+        "test.views",
+        "TestViewFxml",
+        "TestView.fxml");
+  }
+}
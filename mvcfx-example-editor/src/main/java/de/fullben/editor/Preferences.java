@@ -1,13 +1,16 @@
 package de.fullben.editor;
 
 import de.fullben.editor.ui.themes.ThemeType;
+import java.util.Locale;
 
 public class Preferences {
 
   private ThemeType theme;
+  private Locale language;
 
   public Preferences() {
     theme = ThemeType.MODENA_LIGHT;
+    language = Locale.getDefault();
   }
 
   public ThemeType getTheme() {
@@ -17,4 +20,12 @@ public class Preferences {
   public void setTheme(ThemeType theme) {
     this.theme = theme;
   }
+
+  public Locale getLanguage() {
+    return language;
+  }
+
+  public void setLanguage(Locale language) {
+    this.language = language;
+  }
 }
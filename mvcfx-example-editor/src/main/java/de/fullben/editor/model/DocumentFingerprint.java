@@ -0,0 +1,138 @@
+package de.fullben.editor.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A fingerprint of a text document, made up of the hashes of fixed-size blocks of the text. The
+ * blocks are hashed with 64-bit FNV-1a, a fast non-cryptographic hash.
+ *
+ * <p>When the document is edited, {@link #edited(CharSequence, CharSequence)} only marks the
+ * blocks affected by the edit as stale, and stale blocks are rehashed the next time the
+ * fingerprint is compared. Edits which do not change the length of the document only affect the
+ * blocks they overlap, while edits changing the length shift, and thus affect, all subsequent
+ * blocks. Fingerprints of documents of different length are unequal without hashing anything.
+ */
+public final class DocumentFingerprint {
+
+  static final int BLOCK_SIZE = 4096;
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private long[] hashes;
+  private final BitSet stale;
+  private int length;
+
+  private DocumentFingerprint(long[] hashes, BitSet stale, int length) {
+    this.hashes = hashes;
+    this.stale = stale;
+    this.length = length;
+  }
+
+  /**
+   * Creates the fingerprint of the given text.
+   *
+   * @param text the text
+   * @return the fingerprint of the text
+   */
+  public static DocumentFingerprint of(CharSequence text) {
+    int length = text.length();
+    long[] hashes = new long[blockCount(length)];
+    for (int block = 0; block < hashes.length; block++) {
+      hashes[block] = hash(text, block);
+    }
+    return new DocumentFingerprint(hashes, new BitSet(), length);
+  }
+
+  /**
+   * Updates this fingerprint after the document it was created for has been edited. The edited
+   * region is determined by comparing the old and the new text from both ends, and the blocks
+   * affected by it are marked stale.
+   *
+   * @param oldText the text this fingerprint has been created or last updated for
+   * @param newText the edited text
+   */
+  public void edited(CharSequence oldText, CharSequence newText) {
+    int oldLength = oldText.length();
+    int newLength = newText.length();
+    int shorter = Math.min(oldLength, newLength);
+    int prefix = 0;
+    while (prefix < shorter && oldText.charAt(prefix) == newText.charAt(prefix)) {
+      prefix++;
+    }
+    int blocks = blockCount(newLength);
+    if (blocks != hashes.length) {
+      hashes = Arrays.copyOf(hashes, blocks);
+    }
+    length = newLength;
+    if (prefix == newLength && oldLength == newLength) {
+      return;
+    }
+    int end = newLength;
+    if (oldLength == newLength) {
+      // Blocks after the edited region keep their position, so they are not affected
+      int suffix = 0;
+      while (suffix < newLength - prefix
+          && oldText.charAt(oldLength - 1 - suffix) == newText.charAt(newLength - 1 - suffix)) {
+        suffix++;
+      }
+      end = newLength - suffix;
+    }
+    stale.set(prefix / BLOCK_SIZE, Math.max(end - 1, prefix) / BLOCK_SIZE + 1);
+    stale.clear(blocks, Math.max(blocks, stale.length()));
+  }
+
+  /**
+   * Returns a copy of this fingerprint without stale blocks, e.g. for comparing the document with
+   * the state of the document at the time of the copy later on.
+   *
+   * @param text the text this fingerprint has been created or last updated for
+   * @return the copy
+   */
+  public DocumentFingerprint snapshot(CharSequence text) {
+    for (int block = stale.nextSetBit(0); block >= 0; block = stale.nextSetBit(block + 1)) {
+      hashes[block] = hash(text, block);
+    }
+    stale.clear();
+    return new DocumentFingerprint(hashes.clone(), new BitSet(), length);
+  }
+
+  /**
+   * Checks whether the document matches the document of the given fingerprint. Blocks are compared
+   * in order, and stale blocks are only rehashed until the first block which does not match.
+   *
+   * @param text the text this fingerprint has been created or last updated for
+   * @param other a fingerprint without stale blocks, as returned by {@link #snapshot(CharSequence)}
+   *     or {@link #of(CharSequence)}
+   * @return {@code true} if all blocks match, {@code false} otherwise
+   */
+  public boolean matches(CharSequence text, DocumentFingerprint other) {
+    if (length != other.length) {
+      return false;
+    }
+    for (int block = 0; block < hashes.length; block++) {
+      if (stale.get(block)) {
+        hashes[block] = hash(text, block);
+        stale.clear(block);
+      }
+      if (hashes[block] != other.hashes[block]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int blockCount(int length) {
+    return (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+  }
+
+  private static long hash(CharSequence text, int block) {
+    int start = block * BLOCK_SIZE;
+    int end = Math.min(start + BLOCK_SIZE, text.length());
+    long hash = FNV_OFFSET_BASIS;
+    for (int i = start; i < end; i++) {
+      hash ^= text.charAt(i);
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+}
@@ -6,13 +6,10 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.stream.Collectors;
 
 public class FileHandler {
 
-  private static final char[] HEX_ARRAY = "0123456789ABCDEF".toCharArray();
   private Path file;
   private String filename;
 
@@ -66,39 +63,6 @@ public class FileHandler {
         StandardOpenOption.TRUNCATE_EXISTING);
   }
 
-  public boolean matchesCurrentFileContents(String contents) throws IOException {
-    if (isNonExistentFile(file)) {
-      return contents.isBlank();
-    }
-    return getMd5Checksum(Files.readAllBytes(file))
-        .equals(getMd5Checksum(contents.getBytes(StandardCharsets.UTF_8)));
-  }
-
-  private String getExternalFileChecksum() throws IOException {
-    return getMd5Checksum(Files.readAllBytes(file));
-  }
-
-  private String getMd5Checksum(byte[] bytes) {
-    MessageDigest md5Digest;
-    try {
-      md5Digest = MessageDigest.getInstance("MD5");
-    } catch (NoSuchAlgorithmException e) {
-      throw new IllegalStateException(e);
-    }
-    md5Digest.update(bytes);
-    return toHexString(md5Digest.digest()).toUpperCase();
-  }
-
-  private static String toHexString(byte[] bytes) {
-    char[] hexChars = new char[bytes.length * 2];
-    for (int j = 0; j < bytes.length; j++) {
-      int v = bytes[j] & 0xFF;
-      hexChars[j * 2] = HEX_ARRAY[v >>> 4];
-      hexChars[j * 2 + 1] = HEX_ARRAY[v & 0x0F];
-    }
-    return new String(hexChars);
-  }
-
   private static boolean isNonExistentFile(Path file) {
     return file == null || !Files.exists(file) || !Files.isRegularFile(file);
   }
@@ -2,22 +2,49 @@ package de.fullben.editor.ui;
 
 import de.fullben.editor.Preferences;
 import de.fullben.editor.model.FileManager;
+import de.fullben.editor.ui.about.AboutView;
+import de.fullben.editor.ui.file.FileTabView;
 import de.fullben.editor.ui.main.MainController;
 import de.fullben.editor.ui.main.MainModel;
+import de.fullben.editor.ui.main.MainView;
+import de.fullben.editor.ui.preferences.PreferencesView;
+import de.fullben.mvcfx.Controller;
+import de.fullben.mvcfx.Dialogs;
+import de.fullben.mvcfx.FxThreadWatchdog;
+import de.fullben.mvcfx.ViewManager;
+import de.fullben.mvcfx.ViewPreloader;
+import java.time.Duration;
+import java.util.ResourceBundle;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
 public class Editor extends Application {
 
+  /** Enables the application thread watchdog if set to {@code true}. */
+  private static final String WATCHDOG_PROPERTY = "editor.watchdog";
+
   public static void main(String[] args) {
     Application.launch(args);
   }
 
   @Override
   public void start(Stage primaryStage) throws Exception {
+    ViewManager.get().registerMBean();
+    if (Boolean.getBoolean(WATCHDOG_PROPERTY)) {
+      new FxThreadWatchdog(Duration.ofMillis(250)).start();
+    }
+    ResourceBundle resources = I18n.getBundle();
+    // Secondary windows are only prepared once the views needed right away are ready
+    new ViewPreloader()
+        .preload(MainView.class, resources)
+        .preload(FileTabView.class, resources)
+        .preload(PreferencesView.class, resources, MainView.class, FileTabView.class)
+        .preload(AboutView.class, resources, MainView.class, FileTabView.class)
+        .start();
     FileManager fileManager = new FileManager();
     Preferences preferences = new Preferences();
     MainController controller = new MainController(new MainModel(fileManager, preferences));
-    controller.startUp();
+    Controller.startUp(controller);
+    Dialogs.prewarmAlerts();
   }
 }
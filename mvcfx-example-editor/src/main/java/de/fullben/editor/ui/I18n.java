@@ -1,10 +1,16 @@
 package de.fullben.editor.ui;
 
-import java.text.MessageFormat;
+import de.fullben.mvcfx.MessageFormats;
+import de.fullben.mvcfx.ResourceBundles;
+import de.fullben.mvcfx.StartupTrace;
+import de.fullben.mvcfx.ViewManager;
+import java.util.Locale;
 import java.util.ResourceBundle;
 
 public final class I18n {
 
+  private static final String BASE_NAME = "messages";
+  private static final ClassLoader CLASS_LOADER = I18n.class.getClassLoader();
   private static ResourceBundle bundle;
 
   private I18n() {
@@ -13,17 +19,31 @@ public final class I18n {
 
   /**
    * Returns the resource bundle. The bundle is loaded during the first call to this method. The
-   * method uses the default locale to load a bundle version.
+   * method uses the default locale to load a bundle version, preferring the compiled form of the
+   * bundle generated by the build.
    *
    * @return the resource bundle containing the user interface text
    */
   public static ResourceBundle getBundle() {
     if (bundle == null) {
-      bundle = ResourceBundle.getBundle("messages");
+      try (StartupTrace.Span span = StartupTrace.span("Load resource bundle")) {
+        bundle = ResourceBundles.getBundle(BASE_NAME, Locale.getDefault(), CLASS_LOADER);
+      }
     }
     return bundle;
   }
 
+  /**
+   * Switches the user interface to the given locale, by loading the bundle for the locale and
+   * relabeling all live views.
+   *
+   * @param locale the new locale
+   */
+  public static void setLocale(Locale locale) {
+    bundle = ResourceBundles.getBundle(BASE_NAME, locale, CLASS_LOADER);
+    ViewManager.get().setLocale(locale);
+  }
+
   /**
    * Calling this method is equal to calling {@link ResourceBundle#getString(String)} on the bundle
    * returned by {@link #getBundle()}
@@ -36,9 +56,6 @@ public final class I18n {
   }
 
   public static String getString(String key, Object... arguments) {
-    if (arguments == null || arguments.length == 0) {
-      return getString(key);
-    }
-    return MessageFormat.format(getString(key), arguments);
+    return MessageFormats.format(getBundle(), key, arguments);
   }
 }
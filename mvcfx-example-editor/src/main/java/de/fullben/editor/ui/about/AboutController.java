@@ -13,10 +13,10 @@ public class AboutController implements Controller {
 
   @Override
   public void startUp() throws IOException {
-    if (view != null) {
-      return;
+    if (view == null) {
+      view = new AboutView(this);
     }
-    view = new AboutView(this);
+    // The window is kept when closed, starting up again re-shows it
     view.show();
   }
 }
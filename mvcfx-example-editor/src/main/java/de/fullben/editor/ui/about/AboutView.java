@@ -20,7 +20,7 @@ public class AboutView extends StatelessFxmlStageView<AboutController> {
   @Override
   protected Stage initStage(Parent root) {
     Stage stage = new Stage();
-    stage.setTitle(getString("about.title"));
+    localize(stage.titleProperty(), "about.title");
     stage.setResizable(false);
     stage.setScene(new Scene(root));
     Stages.setIcon(stage);
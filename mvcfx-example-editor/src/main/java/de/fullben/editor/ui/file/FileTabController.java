@@ -1,13 +1,17 @@
 package de.fullben.editor.ui.file;
 
 import de.fullben.mvcfx.Controller;
+import de.fullben.mvcfx.ViewPool;
 import de.fullben.mvcfx.os.OperatingSystem;
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 public class FileTabController implements Controller {
 
+  private static final ViewPool<FileTabModel, FileTabController, FileTabView> VIEWS =
+      new ViewPool<>(4, FileTabView::new);
   private final FileTabModel model;
   private FileTabView view;
 
@@ -21,33 +25,44 @@ public class FileTabController implements Controller {
     if (view != null) {
       return;
     }
-    view = new FileTabView(model, this);
+    view = VIEWS.acquire(model, this);
   }
 
-  public boolean saveFile() {
+  @Override
+  public void dispose() {
+    if (view != null) {
+      VIEWS.release(view);
+      view = null;
+    }
+  }
+
+  public CompletableFuture<Boolean> saveFile() {
     try {
       model.save();
-      return true;
+      return CompletableFuture.completedFuture(true);
     } catch (NoSuchFileException e) {
       return saveFileAs();
     } catch (IOException e) {
       view.showFileWriteErrorDialog();
-      return false;
+      return CompletableFuture.completedFuture(false);
     }
   }
 
-  public boolean saveFileAs() {
-    Path file = view.showSaveToFileChooserDialog();
-    if (file == null) {
-      return false;
-    }
-    try {
-      model.saveAs(file);
-      return true;
-    } catch (IOException e) {
-      view.showFileWriteErrorDialog();
-      return false;
-    }
+  public CompletableFuture<Boolean> saveFileAs() {
+    return view.showSaveToFileChooserDialog()
+        .thenApply(
+            file -> {
+              if (file == null) {
+                return false;
+              }
+              try {
+                model.saveAs(file);
+                return true;
+              } catch (IOException e) {
+                view.showFileWriteErrorDialog();
+                return false;
+              }
+            });
   }
 
   public void showFileInFileManager() {
@@ -62,19 +77,22 @@ public class FileTabController implements Controller {
     }
   }
 
-  public boolean isCloseConfirmed() {
+  public CompletableFuture<Boolean> confirmClose() {
     if (fileHasNoUnsavedChanges()) {
-      return true;
-    }
-    Boolean saveChanges = view.showFileHasUnsavedChangesSaveDialog(model.nameProperty().get());
-    if (saveChanges == null) {
-      // User wants to cancel close
-      return false;
-    }
-    if (saveChanges) {
-      return saveFile();
+      return CompletableFuture.completedFuture(true);
     }
-    return true;
+    return view.showFileHasUnsavedChangesSaveDialog(model.nameProperty().get())
+        .thenCompose(
+            saveChanges -> {
+              if (saveChanges == null) {
+                // User wants to cancel close
+                return CompletableFuture.completedFuture(false);
+              }
+              if (saveChanges) {
+                return saveFile();
+              }
+              return CompletableFuture.completedFuture(true);
+            });
   }
 
   private boolean fileHasNoUnsavedChanges() {
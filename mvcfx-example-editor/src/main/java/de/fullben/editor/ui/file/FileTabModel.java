@@ -1,8 +1,11 @@
 package de.fullben.editor.ui.file;
 
+import de.fullben.editor.model.DocumentFingerprint;
 import de.fullben.editor.model.FileHandler;
 import java.io.IOException;
 import java.nio.file.Path;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleStringProperty;
@@ -14,24 +17,56 @@ public class FileTabModel {
   private final StringProperty name;
   private final StringProperty contents;
   private final ReadOnlyObjectWrapper<Path> file;
+  private final ReadOnlyBooleanWrapper unsavedChanges;
+  private final DocumentFingerprint fingerprint;
+  private DocumentFingerprint savedFingerprint;
 
   public FileTabModel(FileHandler fileHandler) throws IOException {
     this.fileHandler = fileHandler;
     name = new SimpleStringProperty(fileHandler.getFilename());
     contents = new SimpleStringProperty(fileHandler.loadFileContents());
     this.file = new ReadOnlyObjectWrapper<>(fileHandler.getFile());
+    unsavedChanges = new ReadOnlyBooleanWrapper(false);
+    fingerprint = DocumentFingerprint.of(contents.get());
+    markSaved(contents.get());
+    contents.addListener(
+        (observable, oldContents, newContents) -> edited(oldContents, newContents));
   }
 
   public void save() throws IOException {
-    fileHandler.saveFileContents(contents.get());
+    String saved = contents.get();
+    fileHandler.saveFileContents(saved);
+    markSaved(saved);
   }
 
+  // Compares the contents with the state last loaded or saved, changes of the file made by other
+  // programs are not detected
   public boolean hasUnsavedChanges() {
-    try {
-      return !fileHandler.matchesCurrentFileContents(contents.get());
-    } catch (IOException e) {
-      return false;
+    return unsavedChanges.get();
+  }
+
+  public ReadOnlyBooleanProperty unsavedChangesProperty() {
+    return unsavedChanges.getReadOnlyProperty();
+  }
+
+  private void edited(String oldContents, String newContents) {
+    fingerprint.edited(oldContents, newContents);
+    // Edits restoring the saved contents, e.g. by undoing, leave no unsaved changes
+    unsavedChanges.set(!matchesSaved(newContents));
+  }
+
+  private void markSaved(String saved) {
+    savedFingerprint = fingerprint.snapshot(saved);
+    unsavedChanges.set(false);
+  }
+
+  private boolean matchesSaved(String contents) {
+    if (!fileHandler.hasFile() && contents.isBlank()) {
+      // Blank contents of a file which has never been saved are not worth saving
+      return true;
     }
+    // Only the blocks affected by edits since the last comparison are hashed again
+    return fingerprint.matches(contents, savedFingerprint);
   }
 
   public void saveAs(Path file) throws IOException {
@@ -43,6 +78,7 @@ public class FileTabModel {
       fileHandler.setFile(oldFile);
       throw e;
     }
+    markSaved(contents.get());
     this.file.set(file);
     name.set(fileHandler.getFilename());
   }
@@ -3,27 +3,30 @@ package de.fullben.editor.ui.file;
 import de.fullben.editor.ui.I18n;
 import de.fullben.mvcfx.Dialogs;
 import de.fullben.mvcfx.FxmlView;
+import de.fullben.mvcfx.Recyclable;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import javafx.fxml.FXML;
 import javafx.scene.Parent;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.TextArea;
 
-public class FileTabView extends FxmlView<FileTabModel, FileTabController> {
+public class FileTabView extends FxmlView<FileTabModel, FileTabController> implements Recyclable {
 
-  @FXML private TextArea taContents;
+  @FXML TextArea taContents;
 
   public FileTabView(FileTabModel model, FileTabController controller) throws IOException {
     super(model, controller, I18n.getBundle());
     load();
   }
 
-  @FXML
-  private void initialize() {
-    // tab.textProperty().bind(getModel().nameProperty());
-    taContents.textProperty().bindBidirectional(getModel().contentsProperty());
+  @Override
+  protected void bindModel() {
+    bindBidirectional(taContents.textProperty(), getModel().contentsProperty());
+    // The text area may have been used for another file before
+    taContents.clearUndo();
+    taContents.positionCaret(0);
   }
 
   @Override
@@ -36,14 +39,14 @@ public class FileTabView extends FxmlView<FileTabModel, FileTabController> {
         .withHeader("File Write Error")
         .withContent("Something went wrong while trying to write to a file.")
         .withOwner(getWindow())
-        .showAndWait();
+        .showAsync();
   }
 
-  Path showSaveToFileChooserDialog() {
+  CompletableFuture<Path> showSaveToFileChooserDialog() {
     return Dialogs.fileChooser()
         .withTitle("Select File")
         .withExtensionFilter("Text File", ".txt")
-        .showSaveDialog(getWindow());
+        .showSaveDialogAsync(getWindow());
   }
 
   void showFileManagerErrorDialog() {
@@ -54,22 +57,24 @@ public class FileTabView extends FxmlView<FileTabModel, FileTabController> {
         .showAndWait();
   }
 
-  Boolean showFileHasUnsavedChangesSaveDialog(String name) {
-    Optional<ButtonType> confirm =
-        Dialogs.yesNoCancelConfirmationAlert()
-            .withHeader(getString("main.confirm.save.title"))
-            .withContent(getString("main.confirm.save.content", name))
-            .withOwner(getWindow())
-            .showAndWait();
-    if (confirm.isEmpty()) {
-      return null;
-    }
-    if (confirm.get() == ButtonType.YES) {
-      return Boolean.TRUE;
-    } else if (confirm.get() == ButtonType.NO) {
-      return Boolean.FALSE;
-    } else {
-      return null;
-    }
+  CompletableFuture<Boolean> showFileHasUnsavedChangesSaveDialog(String name) {
+    return Dialogs.yesNoCancelConfirmationAlert()
+        .withHeader(getString("main.confirm.save.title"))
+        .withContent(getString("main.confirm.save.content", name))
+        .withOwner(getWindow())
+        .showAsync()
+        .thenApply(
+            confirm -> {
+              if (confirm.isEmpty()) {
+                return null;
+              }
+              if (confirm.get() == ButtonType.YES) {
+                return Boolean.TRUE;
+              } else if (confirm.get() == ButtonType.NO) {
+                return Boolean.FALSE;
+              } else {
+                return null;
+              }
+            });
   }
 }
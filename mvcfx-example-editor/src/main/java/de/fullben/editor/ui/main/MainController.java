@@ -12,17 +12,22 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class MainController implements Controller {
 
   private final MainModel model;
   private MainView view;
   private final List<FileTabController> fileTabControllers;
+  private PreferencesController preferencesController;
+  private AboutController aboutController;
 
   public MainController(MainModel model) {
     this.model = model;
     view = null;
     fileTabControllers = new ArrayList<>();
+    preferencesController = null;
+    aboutController = null;
   }
 
   void openFile() {
@@ -41,7 +46,7 @@ public class MainController implements Controller {
       return;
     }
     try {
-      openedFile.startUp();
+      Controller.startUp(openedFile);
       fileTabControllers.add(openedFile);
       view.addFileTab(openedFile);
     } catch (IOException e) {
@@ -59,7 +64,7 @@ public class MainController implements Controller {
       return;
     }
     try {
-      controller.startUp();
+      Controller.startUp(controller);
       fileTabControllers.add(controller);
       view.addFileTab(controller);
       model.incrementNewTabNumber();
@@ -72,13 +77,25 @@ public class MainController implements Controller {
     model.currentFileTabModelProperty().set(controller.getModel());
   }
 
-  boolean closeFileTab(FileTabController controller) {
-    if (!controller.isCloseConfirmed()) {
-      return false;
-    }
+  CompletableFuture<Boolean> closeFileTab(FileTabController controller) {
+    return controller
+        .confirmClose()
+        .thenApply(
+            confirmed -> {
+              if (confirmed) {
+                close(controller);
+              }
+              return confirmed;
+            });
+  }
+
+  private void close(FileTabController controller) {
     model.closeFileTab(controller.getModel());
     int index = fileTabControllers.indexOf(controller);
     fileTabControllers.remove(controller);
+    // The tab has to be gone before its view is handed back to the pool and possibly reused
+    view.removeFileTab(controller);
+    controller.dispose();
     if (fileTabControllers.isEmpty()) {
       createNewFileTab();
     } else {
@@ -87,22 +104,24 @@ public class MainController implements Controller {
       }
       select(fileTabControllers.get(index));
     }
-    return true;
   }
 
-  boolean closeCurrentFileTab() {
+  CompletableFuture<Boolean> closeCurrentFileTab() {
     return closeFileTab(findByModel(model.currentFileTabModelProperty().get()));
   }
 
-  boolean isUnsavedChangesDiscardConfirmed() {
-    boolean unsavedChanges = false;
+  CompletableFuture<Boolean> confirmUnsavedChangesDiscard() {
+    List<String> unsavedFiles = new ArrayList<>();
     for (FileTabController controller : fileTabControllers) {
       if (controller.fileHasUnsavedChanges()) {
-        unsavedChanges = true;
-        break;
+        unsavedFiles.add(controller.getFilename());
       }
     }
-    return !unsavedChanges || view.showConfirmUnsavedChangesDiscardDialog();
+    if (unsavedFiles.isEmpty()) {
+      return CompletableFuture.completedFuture(true);
+    }
+    // One dialog for all files, rather than one per file
+    return view.showConfirmUnsavedChangesDiscardDialog(unsavedFiles);
   }
 
   void saveCurrentFile() {
@@ -118,19 +137,23 @@ public class MainController implements Controller {
   }
 
   void openPreferencesWindow() {
-    try {
-      PreferencesController controller =
+    if (preferencesController == null) {
+      preferencesController =
           new PreferencesController(new PreferencesModel(model.getPreferences()));
-      controller.startUp();
+    }
+    try {
+      Controller.startUp(preferencesController);
     } catch (IOException e) {
       view.showViewLoadErrorDialog();
     }
   }
 
   void showAboutWindow() {
+    if (aboutController == null) {
+      aboutController = new AboutController();
+    }
     try {
-      AboutController controller = new AboutController();
-      controller.startUp();
+      Controller.startUp(aboutController);
     } catch (IOException e) {
       view.showViewLoadErrorDialog();
     }
@@ -146,6 +169,10 @@ public class MainController implements Controller {
     view.show();
   }
 
+  MainView getView() {
+    return view;
+  }
+
   private FileTabController findByModel(FileTabModel model) {
     if (model == null) {
       throw new IllegalArgumentException("Model must not be null");
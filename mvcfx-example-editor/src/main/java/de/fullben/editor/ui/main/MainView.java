@@ -3,11 +3,14 @@ package de.fullben.editor.ui.main;
 import de.fullben.editor.ui.I18n;
 import de.fullben.editor.ui.Stages;
 import de.fullben.editor.ui.file.FileTabController;
+import de.fullben.editor.ui.file.FileTabModel;
 import de.fullben.mvcfx.Dialogs;
 import de.fullben.mvcfx.FxmlStageView;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javafx.beans.binding.Bindings;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Parent;
@@ -19,7 +22,8 @@ import javafx.stage.Stage;
 
 public class MainView extends FxmlStageView<MainModel, MainController> {
 
-  @FXML private TabPane tpFiles;
+  private static final int MAX_LISTED_FILES = 10;
+  @FXML TabPane tpFiles;
 
   public MainView(MainModel model, MainController controller) throws IOException {
     super(model, controller, I18n.getBundle());
@@ -33,9 +37,8 @@ public class MainView extends FxmlStageView<MainModel, MainController> {
     stage.setTitle(getString("editor.name"));
     stage.setOnCloseRequest(
         event -> {
-          if (!isAppExitConfirmed()) {
-            event.consume();
-          }
+          event.consume();
+          exitIfConfirmed();
         });
     Stages.setIcon(stage);
     return stage;
@@ -44,9 +47,22 @@ public class MainView extends FxmlStageView<MainModel, MainController> {
   void addFileTab(FileTabController controller) {
     Tab tab = new Tab();
     tab.setClosable(true);
-    tab.textProperty().bind(controller.getModel().nameProperty());
+    tab.setUserData(controller);
+    FileTabModel fileModel = controller.getModel();
+    // Files with unsaved changes are marked with an asterisk
+    tab.textProperty()
+        .bind(
+            Bindings.createStringBinding(
+                () -> (fileModel.hasUnsavedChanges() ? "*" : "") + fileModel.nameProperty().get(),
+                fileModel.nameProperty(),
+                fileModel.unsavedChangesProperty()));
     tab.setContent(controller.getView().getRoot());
-    tab.setOnCloseRequest(event -> getController().closeFileTab(controller));
+    tab.setOnCloseRequest(
+        event -> {
+          // The tab is removed by the controller once closing has been confirmed
+          event.consume();
+          getController().closeFileTab(controller);
+        });
     tab.setOnSelectionChanged(
         e -> {
           if (tab.isSelected()) {
@@ -64,52 +80,65 @@ public class MainView extends FxmlStageView<MainModel, MainController> {
   }
 
   @FXML
-  private void handleOpen(ActionEvent event) {
+  void handleOpen(ActionEvent event) {
     getController().openFile();
   }
 
   @FXML
-  private void handleSave(ActionEvent event) {
+  void handleSave(ActionEvent event) {
     getController().saveCurrentFile();
   }
 
   @FXML
-  private void handleSaveAs(ActionEvent event) {
+  void handleSaveAs(ActionEvent event) {
     getController().saveCurrentFileAs();
   }
 
   @FXML
-  private void handleShow(ActionEvent event) {
+  void handleShow(ActionEvent event) {
     getController().showCurrentFileInFileManager();
   }
 
   @FXML
-  private void handleClose(ActionEvent event) {
-    Tab currentTab = tpFiles.getSelectionModel().getSelectedItem();
-    if (getController().closeCurrentFileTab()) {
-      tpFiles.getTabs().remove(currentTab);
-    }
+  void handleClose(ActionEvent event) {
+    getController().closeCurrentFileTab();
   }
 
   @FXML
-  private void handlePreferences(ActionEvent event) {
+  void handlePreferences(ActionEvent event) {
     getController().openPreferencesWindow();
   }
 
   @FXML
-  private void handleExit(ActionEvent event) {
-    if (isAppExitConfirmed()) {
-      hide();
-    }
+  void handleExit(ActionEvent event) {
+    exitIfConfirmed();
   }
 
   @FXML
-  private void handleAbout(ActionEvent event) {
+  void handleAbout(ActionEvent event) {
     getController().showAboutWindow();
   }
 
-  private boolean isAppExitConfirmed() {
-    return getController().isUnsavedChangesDiscardConfirmed();
+  void removeFileTab(FileTabController controller) {
+    for (Tab tab : tpFiles.getTabs()) {
+      if (tab.getUserData() == controller) {
+        tpFiles.getTabs().remove(tab);
+        // Detaches the pooled view of the controller, which may be shown by another tab next
+        tab.setContent(null);
+        return;
+      }
+    }
+  }
+
+  private void exitIfConfirmed() {
+    getController()
+        .confirmUnsavedChangesDiscard()
+        .thenAccept(
+            confirmed -> {
+              if (confirmed) {
+                hide();
+              }
+            });
   }
 
   Path showSelectFileToOpenChooser() {
@@ -135,14 +164,22 @@ public class MainView extends FxmlStageView<MainModel, MainController> {
         .showAndWait();
   }
 
-  boolean showConfirmUnsavedChangesDiscardDialog() {
-    Optional<ButtonType> res =
-        Dialogs.confirmationAlert()
-            .withHeader("Discard Unsaved Changes")
-            .withContent("Exit and discard unsaved changes?")
-            .withOwner(getWindow())
-            .showAndWait();
-    return res.isPresent() && res.get().equals(ButtonType.OK);
+  CompletableFuture<Boolean> showConfirmUnsavedChangesDiscardDialog(List<String> files) {
+    StringBuilder content = new StringBuilder("Exit and discard unsaved changes to ");
+    content.append(files.size() == 1 ? "this file?\n" : files.size() + " files?\n");
+    int listed = Math.min(files.size(), MAX_LISTED_FILES);
+    for (String file : files.subList(0, listed)) {
+      content.append("\n").append(file);
+    }
+    if (files.size() > listed) {
+      content.append("\n...");
+    }
+    return Dialogs.confirmationAlert()
+        .withHeader("Discard Unsaved Changes")
+        .withContent(content.toString())
+        .withOwner(getWindow())
+        .showAsync()
+        .thenApply(res -> res.isPresent() && res.get().equals(ButtonType.OK));
   }
 
   void showFileAlreadyOpenErrorDialog() {
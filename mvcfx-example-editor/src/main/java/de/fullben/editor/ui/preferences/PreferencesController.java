@@ -1,5 +1,6 @@
 package de.fullben.editor.ui.preferences;
 
+import de.fullben.editor.ui.I18n;
 import de.fullben.editor.ui.themes.DarkTheme;
 import de.fullben.editor.ui.themes.JMetroTheme;
 import de.fullben.editor.ui.themes.ThemeType;
@@ -7,6 +8,7 @@ import de.fullben.mvcfx.Controller;
 import de.fullben.mvcfx.ViewManager;
 import de.fullben.mvcfx.theme.PlatformDefaultTheme;
 import java.io.IOException;
+import java.util.Locale;
 import jfxtras.styles.jmetro.Style;
 
 public class PreferencesController implements Controller {
@@ -21,10 +23,10 @@ public class PreferencesController implements Controller {
 
   @Override
   public void startUp() throws IOException {
-    if (view != null) {
-      return;
+    if (view == null) {
+      view = new PreferencesView(model, this);
     }
-    view = new PreferencesView(model, this);
+    // The window is kept when closed, starting up again re-shows it
     view.show();
   }
 
@@ -47,4 +49,9 @@ public class PreferencesController implements Controller {
     }
     model.setSelectedTheme(type);
   }
+
+  void setLanguage(Locale language) {
+    I18n.setLocale(language);
+    model.setSelectedLanguage(language);
+  }
 }
@@ -3,6 +3,8 @@ package de.fullben.editor.ui.preferences;
 import de.fullben.editor.Preferences;
 import de.fullben.editor.ui.themes.ThemeType;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -10,12 +12,16 @@ public class PreferencesModel {
 
   private final Preferences preferences;
   private final ObservableList<ThemeType> themeTypes;
+  private final ObservableList<Locale> languages;
 
   public PreferencesModel(Preferences preferences) {
     this.preferences = preferences;
     themeTypes =
         FXCollections.unmodifiableObservableList(
             FXCollections.observableList(Arrays.asList(ThemeType.values())));
+    languages =
+        FXCollections.unmodifiableObservableList(
+            FXCollections.observableList(List.of(Locale.ENGLISH, Locale.GERMAN)));
   }
 
   public ObservableList<ThemeType> getThemeTypes() {
@@ -29,4 +35,16 @@ public class PreferencesModel {
   public void setSelectedTheme(ThemeType type) {
     preferences.setTheme(type);
   }
+
+  public ObservableList<Locale> getLanguages() {
+    return languages;
+  }
+
+  public Locale getSelectedLanguage() {
+    return preferences.getLanguage();
+  }
+
+  public void setSelectedLanguage(Locale language) {
+    preferences.setLanguage(language);
+  }
 }
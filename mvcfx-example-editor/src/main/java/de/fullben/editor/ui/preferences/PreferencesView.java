@@ -5,6 +5,7 @@ import de.fullben.editor.ui.Stages;
 import de.fullben.editor.ui.themes.ThemeType;
 import de.fullben.mvcfx.FxmlStageView;
 import java.io.IOException;
+import java.util.Locale;
 import java.util.stream.Collectors;
 import javafx.beans.value.ChangeListener;
 import javafx.collections.FXCollections;
@@ -18,7 +19,8 @@ import javafx.stage.Stage;
 
 public class PreferencesView extends FxmlStageView<PreferencesModel, PreferencesController> {
 
-  @FXML private ComboBox<ThemeTypeItem> cbThemes;
+  @FXML ComboBox<ThemeTypeItem> cbThemes;
+  @FXML ComboBox<LanguageItem> cbLanguages;
 
   public PreferencesView(PreferencesModel model, PreferencesController controller)
       throws IOException {
@@ -30,7 +32,7 @@ public class PreferencesView extends FxmlStageView<PreferencesModel, Preferences
   protected Stage initStage(Parent root) {
     Stage stage = new Stage();
     stage.setResizable(false);
-    stage.setTitle(getString("preferences.title"));
+    localize(stage.titleProperty(), "preferences.title");
     stage.setScene(new Scene(root));
     Stages.setIcon(stage);
     return stage;
@@ -38,29 +40,75 @@ public class PreferencesView extends FxmlStageView<PreferencesModel, Preferences
 
   @FXML
   public void initialize() {
+    initThemeItems();
+    cbThemes
+        .getSelectionModel()
+        .selectedItemProperty()
+        .addListener(
+            (ChangeListener<? super ThemeTypeItem>)
+                (observable, oldVal, newVal) -> {
+                  if (newVal == null || newVal.type == getModel().getSelectedTheme()) {
+                    return;
+                  }
+                  getController().setTheme(newVal.type);
+                });
+    cbLanguages.setItems(
+        FXCollections.observableArrayList(
+            getModel().getLanguages().stream()
+                .map(LanguageItem::new)
+                .collect(Collectors.toList())));
+    selectCurrentLanguage();
+    cbLanguages
+        .getSelectionModel()
+        .selectedItemProperty()
+        .addListener(
+            (ChangeListener<? super LanguageItem>)
+                (observable, oldVal, newVal) -> {
+                  if (newVal == null || newVal.locale.equals(getModel().getSelectedLanguage())) {
+                    return;
+                  }
+                  getController().setLanguage(newVal.locale);
+                });
+    // The theme names are resources of their own, so rebuild them for a new locale
+    addListener(resourcesProperty(), observable -> initThemeItems());
+  }
+
+  @Override
+  protected void refresh() {
+    selectCurrentTheme();
+    selectCurrentLanguage();
+  }
+
+  private void initThemeItems() {
     ObservableList<ThemeTypeItem> items =
         FXCollections.observableArrayList(
             getModel().getThemeTypes().stream()
                 .map(ThemeTypeItem::new)
                 .collect(Collectors.toList()));
     cbThemes.setItems(items);
+    selectCurrentTheme();
+  }
+
+  private void selectCurrentTheme() {
     ThemeType type = getModel().getSelectedTheme();
-    for (ThemeTypeItem item : items) {
+    ThemeTypeItem selected = cbThemes.getSelectionModel().getSelectedItem();
+    if (selected != null && selected.type == type) {
+      return;
+    }
+    for (ThemeTypeItem item : cbThemes.getItems()) {
       if (item.type == type) {
         cbThemes.getSelectionModel().select(item);
       }
     }
-    cbThemes
-        .getSelectionModel()
-        .selectedItemProperty()
-        .addListener(
-            (ChangeListener<? super ThemeTypeItem>)
-                (observable, oldVal, newVal) -> {
-                  if (newVal == null) {
-                    return;
-                  }
-                  getController().setTheme(newVal.type);
-                });
+  }
+
+  private void selectCurrentLanguage() {
+    String language = getModel().getSelectedLanguage().getLanguage();
+    for (LanguageItem item : cbLanguages.getItems()) {
+      if (item.locale.getLanguage().equals(language)) {
+        cbLanguages.getSelectionModel().select(item);
+      }
+    }
   }
 
   @FXML
@@ -82,4 +130,20 @@ public class PreferencesView extends FxmlStageView<PreferencesModel, Preferences
       return text;
     }
   }
+
+  private static class LanguageItem {
+    private final Locale locale;
+    private final String text;
+
+    private LanguageItem(Locale locale) {
+      this.locale = locale;
+      // Each language is named in its own language, so the names need no relabeling
+      text = locale.getDisplayLanguage(locale);
+    }
+
+    @Override
+    public String toString() {
+      return text;
+    }
+  }
 }
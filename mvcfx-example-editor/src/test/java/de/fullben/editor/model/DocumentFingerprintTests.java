@@ -0,0 +1,102 @@
+package de.fullben.editor.model;
+
+import static de.fullben.editor.model.DocumentFingerprint.BLOCK_SIZE;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the incremental updates of the {@link DocumentFingerprint} against fingerprints created
+ * from scratch.
+ *
+ * @author Benedikt Full
+ */
+public class DocumentFingerprintTests {
+
+  private static final String TEXT = text(3 * BLOCK_SIZE + 100);
+
+  @Test
+  public void insertionAcrossBlockBoundaryIsDetected() {
+    // Given
+    DocumentFingerprint fingerprint = DocumentFingerprint.of(TEXT);
+    DocumentFingerprint saved = fingerprint.snapshot(TEXT);
+    String edited = insert(TEXT, BLOCK_SIZE - 2, "inserted");
+    // When
+    fingerprint.edited(TEXT, edited);
+    // Then
+    assertFalse(fingerprint.matches(edited, saved));
+    assertTrue(fingerprint.matches(edited, DocumentFingerprint.of(edited)));
+  }
+
+  @Test
+  public void deletionAcrossBlockBoundaryIsDetected() {
+    // Given
+    DocumentFingerprint fingerprint = DocumentFingerprint.of(TEXT);
+    DocumentFingerprint saved = fingerprint.snapshot(TEXT);
+    String edited = delete(TEXT, 2 * BLOCK_SIZE - 5, 2 * BLOCK_SIZE + 5);
+    // When
+    fingerprint.edited(TEXT, edited);
+    // Then
+    assertFalse(fingerprint.matches(edited, saved));
+    assertTrue(fingerprint.matches(edited, DocumentFingerprint.of(edited)));
+  }
+
+  @Test
+  public void revertingToSavedTextMatchesSavedFingerprint() {
+    // Given
+    DocumentFingerprint fingerprint = DocumentFingerprint.of(TEXT);
+    DocumentFingerprint saved = fingerprint.snapshot(TEXT);
+    String edited = insert(TEXT, BLOCK_SIZE + 10, "typed");
+    fingerprint.edited(TEXT, edited);
+    assertFalse(fingerprint.matches(edited, saved));
+    // When
+    fingerprint.edited(edited, TEXT);
+    // Then
+    assertTrue(fingerprint.matches(TEXT, saved));
+  }
+
+  @Test
+  public void sizeChangeInsideOneBlockIsDetected() {
+    // Given
+    DocumentFingerprint fingerprint = DocumentFingerprint.of(TEXT);
+    DocumentFingerprint saved = fingerprint.snapshot(TEXT);
+    String grown = insert(TEXT, BLOCK_SIZE + 100, "x");
+    String edited = delete(grown, BLOCK_SIZE + 200, BLOCK_SIZE + 201);
+    // When
+    fingerprint.edited(TEXT, grown);
+    fingerprint.edited(grown, edited);
+    // Then
+    assertFalse(fingerprint.matches(edited, saved));
+    assertTrue(fingerprint.matches(edited, DocumentFingerprint.of(edited)));
+  }
+
+  @Test
+  public void editWithinLastBlockIsDetected() {
+    // Given
+    DocumentFingerprint fingerprint = DocumentFingerprint.of(TEXT);
+    DocumentFingerprint saved = fingerprint.snapshot(TEXT);
+    String edited = delete(TEXT, TEXT.length() - 100, TEXT.length());
+    // When
+    fingerprint.edited(TEXT, edited);
+    // Then
+    assertFalse(fingerprint.matches(edited, saved));
+    assertTrue(fingerprint.matches(edited, DocumentFingerprint.of(edited)));
+  }
+
+  private static String text(int length) {
+    StringBuilder text = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      text.append((char) ('a' + i % 26));
+    }
+    return text.toString();
+  }
+
+  private static String insert(String text, int index, String inserted) {
+    return text.substring(0, index) + inserted + text.substring(index);
+  }
+
+  private static String delete(String text, int start, int end) {
+    return text.substring(0, start) + text.substring(end);
+  }
+}
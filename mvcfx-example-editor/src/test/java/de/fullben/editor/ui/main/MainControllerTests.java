@@ -0,0 +1,80 @@
+package de.fullben.editor.ui.main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import de.fullben.editor.Preferences;
+import de.fullben.editor.model.FileManager;
+import de.fullben.mvcfx.Controller;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import javafx.application.Platform;
+import javafx.scene.control.Tab;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the handling of file tabs by the {@link MainController}, on a headless JavaFX platform.
+ *
+ * @author Benedikt Full
+ */
+public class MainControllerTests {
+
+  @BeforeAll
+  public static void startPlatform() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    Platform.startup(latch::countDown);
+    Platform.setImplicitExit(false);
+    latch.await();
+  }
+
+  @Test
+  public void closingLastTabOpensNewTabWithDetachedView() throws Exception {
+    // Given
+    MainController controller =
+        callOnFxThread(
+            () -> {
+              MainController main =
+                  new MainController(new MainModel(new FileManager(), new Preferences()));
+              Controller.startUp(main);
+              return main;
+            });
+    Tab closedTab = callOnFxThread(() -> controller.getView().tpFiles.getTabs().get(0));
+    // When
+    List<Tab> tabs =
+        callOnFxThread(
+            () -> {
+              controller.closeCurrentFileTab().join();
+              return new ArrayList<>(controller.getView().tpFiles.getTabs());
+            });
+    // Then
+    assertEquals(1, tabs.size());
+    assertFalse(tabs.contains(closedTab));
+    assertNull(closedTab.getContent());
+    assertNotNull(tabs.get(0).getContent());
+    callOnFxThread(
+        () -> {
+          controller.getView().hide();
+          return null;
+        });
+  }
+
+  private static <T> T callOnFxThread(Callable<T> operation) throws Exception {
+    FutureTask<T> task = new FutureTask<>(operation);
+    Platform.runLater(task);
+    try {
+      return task.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception) {
+        throw (Exception) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package de.fullben.mvcfx;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javafx.application.Platform;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.ButtonType;
+import javafx.stage.Window;
+
+/**
+ * Keeps idle {@link Alert}s for reuse by {@link Dialogs}, so that showing an alert does not require
+ * building a new dialog pane, skin, and window, and applying the theme to them.
+ *
+ * <p>Once {@link #prewarm()} has been called, the pool holds one alert per alert type, which is
+ * built and themed with a low priority on the JavaFX application thread, and refilled whenever the
+ * alert of a type has been handed out. Alerts shown by a {@link Dialogs.AlertBuilder} are returned
+ * to the pool once they have been hidden, and are reset to the state they were created in.
+ *
+ * <p>As the owner of an alert cannot be changed once the alert has been shown, a returned alert is
+ * only handed out again for the same owner. Idle alerts remain registered with the {@link
+ * ViewManager}, so they are kept up to date with the application theme, and as they are registered
+ * only once, reusing them does not add to the alerts tracked by the manager. All methods must be
+ * called on the JavaFX application thread.
+ *
+ * @author Benedikt Full
+ */
+final class AlertPool {
+
+  private static final int CAPACITY_PER_TYPE = 2;
+  private static final AlertType[] PREWARMED_TYPES = {
+    AlertType.ERROR, AlertType.WARNING, AlertType.INFORMATION, AlertType.CONFIRMATION
+  };
+  private static final Map<AlertType, Deque<PooledAlert>> IDLE = new EnumMap<>(AlertType.class);
+  private static boolean prewarming = false;
+
+  private AlertPool() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Schedules building one alert of every alert type offered by {@link Dialogs}, unless this has
+   * been done already. Every alert is built by a task of its own, so that the application thread is
+   * not blocked for long.
+   */
+  static void prewarm() {
+    if (prewarming) {
+      return;
+    }
+    prewarming = true;
+    for (AlertType type : PREWARMED_TYPES) {
+      refill(type);
+    }
+  }
+
+  /**
+   * Returns an idle alert of the given type which can be shown by the given owner, or a new alert
+   * if there is none. The alert is owned by the given window and registered with the {@link
+   * ViewManager}.
+   *
+   * @param type the type of the alert
+   * @param owner the owning window, may be {@code null}
+   * @return the alert
+   */
+  static PooledAlert acquire(AlertType type, Window owner) {
+    Deque<PooledAlert> idle = IDLE.get(type);
+    PooledAlert pooled = null;
+    if (idle != null) {
+      for (Iterator<PooledAlert> it = idle.iterator(); it.hasNext(); ) {
+        PooledAlert candidate = it.next();
+        if (candidate.isOwnerFixed() && !isShowing(candidate.alert.getOwner())) {
+          // The owner has been closed, so the alert cannot be used again
+          it.remove();
+        } else if (pooled == null && candidate.canBeOwnedBy(owner)) {
+          it.remove();
+          pooled = candidate;
+        }
+      }
+    }
+    if (pooled == null) {
+      pooled = new PooledAlert(type);
+    } else if (prewarming && idle.isEmpty()) {
+      refill(type);
+    }
+    pooled.own(owner);
+    return pooled;
+  }
+
+  /**
+   * Resets the given alert and keeps it for reuse, unless enough alerts of its type are idle.
+   *
+   * @param pooled an alert which has been acquired from the pool and has been hidden
+   */
+  static void release(PooledAlert pooled) {
+    if (pooled.alert.isShowing()) {
+      return;
+    }
+    Deque<PooledAlert> idle = IDLE.computeIfAbsent(pooled.type, type -> new ArrayDeque<>());
+    if (idle.size() < CAPACITY_PER_TYPE && !idle.contains(pooled)) {
+      pooled.reset();
+      idle.add(pooled);
+    }
+  }
+
+  private static void refill(AlertType type) {
+    try {
+      Platform.runLater(
+          () -> {
+            Deque<PooledAlert> idle = IDLE.computeIfAbsent(type, t -> new ArrayDeque<>());
+            if (idle.isEmpty()) {
+              PooledAlert pooled = new PooledAlert(type);
+              // Creates the skin of the dialog pane and applies the theme's styles up front
+              pooled.alert.getDialogPane().applyCss();
+              idle.add(pooled);
+            }
+          });
+    } catch (IllegalStateException e) {
+      // Toolkit not initialized, so alerts are built on demand
+    }
+  }
+
+  private static boolean isShowing(Window window) {
+    return window == null || window.isShowing();
+  }
+
+  /**
+   * An alert managed by the {@link AlertPool}, along with the state it has been created in.
+   *
+   * @author Benedikt Full
+   */
+  static final class PooledAlert {
+
+    private final AlertType type;
+    private final Alert alert;
+    private final String title;
+    private final List<ButtonType> buttonTypes;
+    private boolean ownerFixed;
+
+    private PooledAlert(AlertType type) {
+      this.type = type;
+      alert = new Alert(type);
+      title = alert.getTitle();
+      buttonTypes = new ArrayList<>(alert.getButtonTypes());
+      ownerFixed = false;
+      ViewManager.get().register(alert);
+    }
+
+    /**
+     * Returns the pooled alert.
+     *
+     * @return the alert
+     */
+    Alert getAlert() {
+      return alert;
+    }
+
+    /**
+     * Replaces the buttons of the alert with the given buttons.
+     *
+     * @param buttonTypes the buttons of the alert, or {@code null} to keep the default buttons
+     */
+    void setButtonTypes(ButtonType... buttonTypes) {
+      if (buttonTypes != null) {
+        alert.getButtonTypes().setAll(buttonTypes);
+      }
+    }
+
+    private boolean isOwnerFixed() {
+      return ownerFixed;
+    }
+
+    private boolean canBeOwnedBy(Window owner) {
+      return !ownerFixed || alert.getOwner() == owner;
+    }
+
+    private void own(Window owner) {
+      if (!ownerFixed) {
+        alert.initOwner(owner);
+      }
+      ownerFixed = true;
+    }
+
+    private void reset() {
+      alert.setTitle(title);
+      alert.setHeaderText(null);
+      alert.setContentText(null);
+      alert.setGraphic(null);
+      alert.setResult(null);
+      alert.setOnHidden(null);
+      alert.getDialogPane().setExpandableContent(null);
+      alert.getButtonTypes().setAll(buttonTypes);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package de.fullben.mvcfx;
+
+import javafx.beans.property.Property;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.scene.Parent;
+
+/**
+ * A {@code CompiledFxml} builds the user interface components described by an {@code fxml} file
+ * with plain Java code, instead of having a {@link javafx.fxml.FXMLLoader} parse the file at
+ * runtime. Implementations are generated at build time by the {@code FxmlCompiler} of the {@code
+ * mvcfx-compiler} artifact and are not meant to be written by hand.
+ *
+ * <p>An {@link FxmlView} transparently uses the compiled form of its {@code fxml} file if a class
+ * implementing this interface, with the name of the view class followed by {@link
+ * #CLASS_NAME_SUFFIX}, can be found in the package of the view (e.g. {@code MainViewFxml} for a
+ * view named {@code MainView}). If no such class exists, the view falls back to loading the {@code
+ * fxml} file.
+ *
+ * @see FxmlView
+ * @author Benedikt Full
+ */
+public interface CompiledFxml {
+
+  /** The suffix appended to the name of a view class to obtain the name of its compiled form. */
+  String CLASS_NAME_SUFFIX = "Fxml";
+
+  /**
+   * Builds the node hierarchy described by the {@code fxml} file this class has been generated
+   * from.
+   *
+   * @param context provides access to the resources and event handlers of the view the nodes are
+   *     built for, and receives all elements with an {@code fx:id}
+   * @return the root element of the node hierarchy, never {@code null}
+   */
+  Parent build(Context context);
+
+  /**
+   * The view-specific environment a {@link CompiledFxml} builds its nodes in.
+   *
+   * @author Benedikt Full
+   */
+  interface Context {
+
+    /**
+     * Returns the string resource identified by the given key, as referenced by a {@code %key}
+     * attribute value.
+     *
+     * @param key a valid resource key
+     * @return the resource value
+     */
+    String getString(String key);
+
+    /**
+     * Sets the given property to the string resource identified by the given key, as referenced by
+     * a {@code %key} attribute value of a string property. Unlike {@link #getString(String)}, this
+     * allows the property to be updated when the view is relabeled for a new locale.
+     *
+     * @param property the property referencing the resource
+     * @param key a valid resource key
+     */
+    default void localize(Property<String> property, String key) {
+      property.setValue(getString(key));
+    }
+
+    /**
+     * Registers the given element under the given {@code fx:id}.
+     *
+     * @param id the value of the {@code fx:id} attribute of the element
+     * @param element the element
+     */
+    void register(String id, Object element);
+
+    /**
+     * Returns an event handler which delegates to the handler method of the view with the given
+     * name, as referenced by a {@code #methodName} attribute value.
+     *
+     * @param methodName the name of the handler method
+     * @param <T> the type of the handled event
+     * @return the event handler
+     */
+    <T extends Event> EventHandler<T> handler(String methodName);
+  }
+}
@@ -0,0 +1,285 @@
+package de.fullben.mvcfx;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import javafx.beans.property.Property;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.fxml.LoadException;
+import javafx.scene.Parent;
+
+/**
+ * Loads the user interface components of an {@link FxmlView} from the {@link CompiledFxml} of the
+ * view and injects them into the view, just like a {@link javafx.fxml.FXMLLoader} would do with the
+ * view's {@code fxml} file.
+ *
+ * <p>Fields and handler methods are bound following the rules of the {@code FXMLLoader}: a member
+ * must either be public or be annotated with {@link FXML}. After all elements have been injected,
+ * the {@code initialize()} method of the view is called. If the view implements {@link
+ * Initializable}, its initialization method is called with a {@code null} location instead.
+ *
+ * <p>If an {@link FxmlInjector} has been generated for the view, fields, handlers, and the {@code
+ * initialize()} method are accessed through the injector. Otherwise, they are looked up
+ * reflectively.
+ *
+ * @author Benedikt Full
+ */
+final class CompiledFxmlLoader implements CompiledFxml.Context {
+
+  private static final ClassValue<CompiledFxml> COMPILED_FXML =
+      new ClassValue<>() {
+        @Override
+        protected CompiledFxml computeValue(Class<?> viewType) {
+          return findCompiledFxml(viewType);
+        }
+      };
+  private static final ClassValue<FxmlInjector<Object>> INJECTORS =
+      new ClassValue<>() {
+        @Override
+        protected FxmlInjector<Object> computeValue(Class<?> viewType) {
+          return findInjector(viewType);
+        }
+      };
+  private final FxmlView<?, ?> view;
+  private final FxmlInjector<Object> injector;
+  private final Map<String, Object> namespace;
+
+  private CompiledFxmlLoader(FxmlView<?, ?> view) {
+    this.view = view;
+    injector = INJECTORS.get(view.getClass());
+    namespace = new LinkedHashMap<>();
+  }
+
+  /**
+   * Returns the compiled form of the {@code fxml} file of the given view type. The result of the
+   * lookup is cached, so the class path is only searched once per view type.
+   *
+   * @param viewType the class of a view
+   * @return the compiled {@code fxml} or {@code null} if the view has no compiled form
+   */
+  static CompiledFxml compiledFxmlOf(Class<?> viewType) {
+    return COMPILED_FXML.get(viewType);
+  }
+
+  /**
+   * Builds the node hierarchy of the given view with the given compiled {@code fxml} and injects
+   * all relevant member fields.
+   *
+   * @param compiledFxml the compiled form of the view's {@code fxml} file
+   * @param view the view to be loaded
+   * @param event the event recording the durations of building and injecting
+   * @return the root element of the view
+   * @throws LoadException if the elements cannot be injected into the view
+   */
+  static Parent load(
+      CompiledFxml compiledFxml, FxmlView<?, ?> view, FlightRecorderEvents.FxmlLoad event)
+      throws LoadException {
+    CompiledFxmlLoader loader = new CompiledFxmlLoader(view);
+    try {
+      long start = System.nanoTime();
+      Parent root = compiledFxml.build(loader);
+      long built = System.nanoTime();
+      loader.injectFields();
+      loader.initializeView();
+      event.parseDuration = built - start;
+      event.injectDuration = System.nanoTime() - built;
+      return root;
+    } catch (RuntimeException | ReflectiveOperationException e) {
+      throw new LoadException(e);
+    }
+  }
+
+  /**
+   * Hands the given prebuilt node hierarchy over to the given view by binding its event handlers
+   * and injecting all relevant member fields.
+   *
+   * @param preloaded the node hierarchy built from the compiled {@code fxml} of the view
+   * @param view the view to be loaded
+   * @param event the event recording the duration of injecting
+   * @return the root element of the view
+   * @throws LoadException if the elements cannot be injected into the view
+   */
+  static Parent load(
+      PreloadedFxml preloaded, FxmlView<?, ?> view, FlightRecorderEvents.FxmlLoad event)
+      throws LoadException {
+    CompiledFxmlLoader loader = new CompiledFxmlLoader(view);
+    try {
+      long start = System.nanoTime();
+      preloaded.bind(loader);
+      loader.injectFields();
+      loader.initializeView();
+      event.injectDuration = System.nanoTime() - start;
+      return preloaded.getRoot();
+    } catch (RuntimeException | ReflectiveOperationException e) {
+      throw new LoadException(e);
+    }
+  }
+
+  /**
+   * Looks up the compiled form and the injector of the given view type, so that neither has to be
+   * searched for once the first view of that type is loaded.
+   *
+   * @param viewType the class of a view
+   */
+  static void prepare(Class<?> viewType) {
+    COMPILED_FXML.get(viewType);
+    INJECTORS.get(viewType);
+  }
+
+  @Override
+  public String getString(String key) {
+    return view.getResources().getString(key);
+  }
+
+  @Override
+  public void localize(Property<String> property, String key) {
+    view.localize(property, key);
+  }
+
+  @Override
+  public void register(String id, Object element) {
+    namespace.put(id, element);
+  }
+
+  @Override
+  public <T extends Event> EventHandler<T> handler(String methodName) {
+    if (injector != null) {
+      EventHandler<T> handler = injector.handler(view, methodName);
+      if (handler == null) {
+        throw new IllegalStateException(
+            "Cannot find event handler method " + methodName + " in " + view.getClass().getName());
+      }
+      return handler;
+    }
+    Method method = findHandlerMethod(methodName);
+    boolean withEvent = method.getParameterCount() == 1;
+    return event -> {
+      try {
+        if (withEvent) {
+          method.invoke(view, event);
+        } else {
+          method.invoke(view);
+        }
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      } catch (InvocationTargetException e) {
+        throw new RuntimeException(e.getCause());
+      }
+    };
+  }
+
+  private void injectFields() throws IllegalAccessException {
+    if (injector != null) {
+      for (Entry<String, Object> entry : namespace.entrySet()) {
+        injector.inject(view, entry.getKey(), entry.getValue());
+      }
+      return;
+    }
+    for (Entry<String, Object> entry : namespace.entrySet()) {
+      Field field = findInjectableField(entry.getKey());
+      if (field != null) {
+        field.set(view, entry.getValue());
+      }
+    }
+  }
+
+  private void initializeView() throws ReflectiveOperationException {
+    if (view instanceof Initializable) {
+      ((Initializable) view).initialize(null, view.getResources());
+      return;
+    }
+    if (injector != null) {
+      injector.initialize(view);
+      return;
+    }
+    for (Class<?> type = view.getClass(); type != FxmlView.class; type = type.getSuperclass()) {
+      try {
+        Method initialize = type.getDeclaredMethod("initialize");
+        if (isInjectable(initialize.getModifiers(), initialize.isAnnotationPresent(FXML.class))) {
+          initialize.setAccessible(true);
+          try {
+            initialize.invoke(view);
+          } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Failed to initialize view", e.getCause());
+          }
+        }
+        return;
+      } catch (NoSuchMethodException e) {
+        // Continue with the super class
+      }
+    }
+  }
+
+  private Field findInjectableField(String name) {
+    for (Class<?> type = view.getClass(); type != FxmlView.class; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        if (field.getName().equals(name)
+            && !Modifier.isStatic(field.getModifiers())
+            && isInjectable(field.getModifiers(), field.isAnnotationPresent(FXML.class))) {
+          field.setAccessible(true);
+          return field;
+        }
+      }
+    }
+    return null;
+  }
+
+  private Method findHandlerMethod(String name) {
+    for (Class<?> type = view.getClass(); type != FxmlView.class; type = type.getSuperclass()) {
+      for (Method method : type.getDeclaredMethods()) {
+        if (method.getName().equals(name)
+            && isHandlerSignature(method)
+            && isInjectable(method.getModifiers(), method.isAnnotationPresent(FXML.class))) {
+          method.setAccessible(true);
+          return method;
+        }
+      }
+    }
+    throw new IllegalStateException(
+        "Cannot find event handler method " + name + " in " + view.getClass().getName());
+  }
+
+  private static boolean isHandlerSignature(Method method) {
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    return parameterTypes.length == 0
+        || (parameterTypes.length == 1 && Event.class.isAssignableFrom(parameterTypes[0]));
+  }
+
+  private static boolean isInjectable(int modifiers, boolean annotated) {
+    return annotated || Modifier.isPublic(modifiers);
+  }
+
+  private static CompiledFxml findCompiledFxml(Class<?> viewType) {
+    return findGenerated(viewType, CompiledFxml.class, CompiledFxml.CLASS_NAME_SUFFIX);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static FxmlInjector<Object> findInjector(Class<?> viewType) {
+    return findGenerated(viewType, FxmlInjector.class, FxmlInjector.CLASS_NAME_SUFFIX);
+  }
+
+  private static <T> T findGenerated(Class<?> viewType, Class<T> generatedType, String suffix) {
+    Class<?> type;
+    try {
+      type = Class.forName(viewType.getName() + suffix, true, viewType.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+    if (!generatedType.isAssignableFrom(type)) {
+      return null;
+    }
+    try {
+      return generatedType.cast(type.getDeclaredConstructor().newInstance());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(
+          "Cannot instantiate " + type.getName() + " of view: " + viewType.getName(), e);
+    }
+  }
+}
@@ -56,4 +56,34 @@ public interface Controller {
    * @throws IOException if an error is encountered while loading the view from file
    */
   void startUp() throws IOException;
+
+  /**
+   * Starts up the given controller by calling its {@link #startUp()} method. Unlike calling the
+   * method directly, this records the start up as a JDK Flight Recorder event if a recording is
+   * running, which allows for finding out which controllers dominate the startup of an
+   * application.
+   *
+   * @param controller the controller to start up, must not be {@code null}
+   * @throws IOException if an error is encountered while loading the view of the controller
+   */
+  static void startUp(Controller controller) throws IOException {
+    FlightRecorderEvents.ControllerStartUp event = new FlightRecorderEvents.ControllerStartUp();
+    event.begin();
+    try (StartupTrace.Span span = StartupTrace.span("Start up", controller.getClass())) {
+      controller.startUp();
+    }
+    event.controllerType = controller.getClass();
+    event.commit();
+  }
+
+  /**
+   * Implementations of this method should release all resources held by the controller, most
+   * notably by disposing its view (see {@link View#dispose()}). This method should be called once
+   * the controller is no longer needed, e.g. when the user interface component it manages has been
+   * closed for good.
+   *
+   * <p>Calling the method more than once should have no effect. The default implementation does
+   * nothing.
+   */
+  default void dispose() {}
 }
@@ -5,10 +5,15 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
 import javafx.stage.DirectoryChooser;
 import javafx.stage.FileChooser;
 import javafx.stage.FileChooser.ExtensionFilter;
@@ -18,10 +23,21 @@ import javafx.stage.Window;
  * The {@code Dialogs} class provides various static factory methods for building dialogs such as
  * alerts and file choosers.
  *
+ * <p>Besides the methods which show a dialog and wait for the user to close it, the builders
+ * provide variants returning a {@link CompletableFuture}, e.g. {@link AlertBuilder#showAsync()}.
+ * These return immediately, so a caller does not run a nested event loop per dialog and can chain
+ * any follow-up work to the result instead. The futures are completed on the JavaFX application
+ * thread.
+ *
  * @author Benedikt Full
  */
 public final class Dialogs {
 
+  private static final String ALERT = "Alert";
+  private static final String DIRECTORY_CHOOSER = "DirectoryChooser";
+  private static final String FILE_BROWSER = "FileBrowser";
+  private static final String FILE_CHOOSER = "FileChooser";
+
   private Dialogs() {
     throw new AssertionError();
   }
@@ -41,7 +57,7 @@ public final class Dialogs {
     if (initDir != null) {
       dirChooser.setInitialDirectory(initDir.toFile());
     }
-    File f = dirChooser.showDialog(owner);
+    File f = recordShow(DIRECTORY_CHOOSER, null, () -> dirChooser.showDialog(owner));
     return f != null ? f.toPath() : null;
   }
 
@@ -75,7 +91,7 @@ public final class Dialogs {
     if (initDir != null) {
       fileChooser.setInitialDirectory(initDir.toFile());
     }
-    File file = fileChooser.showOpenDialog(owner);
+    File file = recordShow(FILE_CHOOSER, null, () -> fileChooser.showOpenDialog(owner));
     return file != null ? file.toPath() : null;
   }
 
@@ -99,7 +115,8 @@ public final class Dialogs {
     if (initDir != null) {
       fileChooser.setInitialDirectory(initDir.toFile());
     }
-    List<File> files = fileChooser.showOpenMultipleDialog(owner);
+    List<File> files =
+        recordShow(FILE_CHOOSER, null, () -> fileChooser.showOpenMultipleDialog(owner));
     if (files == null) {
       return null;
     }
@@ -126,7 +143,7 @@ public final class Dialogs {
     if (initDir != null) {
       fileChooser.setInitialDirectory(initDir.toFile());
     }
-    File file = fileChooser.showSaveDialog(owner);
+    File file = recordShow(FILE_CHOOSER, null, () -> fileChooser.showSaveDialog(owner));
     return file != null ? file.toPath() : null;
   }
 
@@ -142,6 +159,18 @@ public final class Dialogs {
     return new FileChooserBuilder();
   }
 
+  /**
+   * Returns a builder for a file browser. Unlike the native file chooser, the browser reads
+   * directories in the background and shows their entries while they are being read, so even
+   * directories with a very large number of entries open without delay.
+   *
+   * @return the builder for the file browser
+   * @see #fileChooser()
+   */
+  public static FileBrowserBuilder fileBrowser() {
+    return new FileBrowserBuilder();
+  }
+
   /**
    * Returns an error alert populated with the given contents. The alert has one button, which
    * closes the alert.
@@ -254,23 +283,109 @@ public final class Dialogs {
         AlertType.CONFIRMATION, ButtonType.YES, ButtonType.NO, ButtonType.CANCEL);
   }
 
+  /**
+   * Prepares alerts of every type in the background, so that the first alert of a session does not
+   * have to wait for its dialog pane to be built and themed. Alerts created by this class are
+   * returned to a pool once they have been shown and closed via an {@link AlertBuilder}, and are
+   * reused for later alerts of the same type and owner.
+   *
+   * <p>Must be called on the JavaFX application thread, preferably once the primary stage has been
+   * shown. Alerts cannot be created on other threads, so each alert is prepared by a separate task
+   * that runs on the application thread once pending events have been handled.
+   */
+  public static void prewarmAlerts() {
+    AlertPool.prewarm();
+  }
+
   private static Alert buildAlert(AlertType type, String header, String content, Window owner) {
-    Alert alert = new Alert(type);
-    alert.setHeaderText(header);
-    alert.setContentText(content);
-    alert.initOwner(owner);
-    ViewManager.get().register(alert);
-    return alert;
+    return acquireAlert(type, header, content, owner, null).getAlert();
   }
 
   private static Alert buildAlert(
       AlertType type, String header, String content, Window owner, ButtonType... buttonTypes) {
-    Alert alert = new Alert(type, null, buttonTypes);
+    return acquireAlert(type, header, content, owner, buttonTypes).getAlert();
+  }
+
+  private static AlertPool.PooledAlert acquireAlert(
+      AlertType type, String header, String content, Window owner, ButtonType[] buttonTypes) {
+    AlertPool.PooledAlert pooled = AlertPool.acquire(type, owner);
+    pooled.setButtonTypes(buttonTypes);
+    Alert alert = pooled.getAlert();
     alert.setHeaderText(header);
     alert.setContentText(content);
-    alert.initOwner(owner);
-    ViewManager.get().register(alert);
-    return alert;
+    return pooled;
+  }
+
+  private static Path toPath(File file) {
+    return file != null ? file.toPath() : null;
+  }
+
+  /** Shows a dialog by calling the given supplier, which blocks until the dialog is closed. */
+  private static <T> T recordShow(String dialogType, String alertType, Supplier<T> show) {
+    FlightRecorderEvents.DialogShow event = new FlightRecorderEvents.DialogShow();
+    event.begin();
+    try {
+      return show.get();
+    } finally {
+      event.dialogType = dialogType;
+      event.alertType = alertType;
+      event.waiting = true;
+      event.commit();
+    }
+  }
+
+  /**
+   * Shows a dialog by calling the given supplier once the JavaFX application thread has handled
+   * pending events, and returns a future completed with the result of the supplier. Used for the
+   * native choosers, which cannot be shown without waiting: deferring them at least keeps the
+   * waiting out of the call stack of the caller.
+   */
+  private static <T> CompletableFuture<T> recordShowLater(String dialogType, Supplier<T> show) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Platform.runLater(
+        () -> {
+          try {
+            result.complete(recordShow(dialogType, null, show));
+          } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Passes the given future to the given action on the JavaFX application thread, and completes the
+   * future exceptionally if the action fails.
+   */
+  private static <T> void runOnFxThread(
+      CompletableFuture<T> result, Consumer<CompletableFuture<T>> action) {
+    Runnable runnable =
+        () -> {
+          try {
+            action.accept(result);
+          } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+          }
+        };
+    if (Platform.isFxApplicationThread()) {
+      runnable.run();
+    } else {
+      Platform.runLater(runnable);
+    }
+  }
+
+  /** Shows a dialog by calling the given runnable, which returns without waiting. */
+  private static void recordShow(String dialogType, String alertType, Runnable show) {
+    FlightRecorderEvents.DialogShow event = new FlightRecorderEvents.DialogShow();
+    event.begin();
+    try {
+      show.run();
+    } finally {
+      event.dialogType = dialogType;
+      event.alertType = alertType;
+      event.waiting = false;
+      event.commit();
+    }
   }
 
   /**
@@ -336,33 +451,68 @@ public final class Dialogs {
      * @see #showAndWait()
      */
     public Alert build() {
-      if (buttonTypes == null) {
-        return buildAlert(type, header, content, owner);
-      }
-      return buildAlert(type, header, content, owner, buttonTypes);
+      return acquireAlert(type, header, content, owner, buttonTypes).getAlert();
     }
 
     /**
      * Creates an alert dialog based on the state of this builder and shows it but does not wait for
-     * a user response (see {@link Alert#show()}).
+     * a user response (see {@link Alert#show()}). The alert is reused for later alerts once it has
+     * been closed.
      *
      * @see #build()
      * @see #showAndWait()
      */
     public void show() {
-      build().show();
+      AlertPool.PooledAlert pooled = acquireAlert(type, header, content, owner, buttonTypes);
+      Alert alert = pooled.getAlert();
+      alert.setOnHidden(e -> AlertPool.release(pooled));
+      recordShow(ALERT, type.name(), alert::show);
     }
 
     /**
      * Creates an alert dialog based on the state of this builder and shows it, waiting for a user
-     * response (see {@link Alert#showAndWait()}).
+     * response (see {@link Alert#showAndWait()}). The alert is reused for later alerts once it has
+     * been closed.
      *
      * @return the button pressed by the user
      * @see #build()
-     * @see #showAndWait()
+     * @see #show()
      */
     public Optional<ButtonType> showAndWait() {
-      return build().showAndWait();
+      AlertPool.PooledAlert pooled = acquireAlert(type, header, content, owner, buttonTypes);
+      try {
+        return recordShow(ALERT, type.name(), pooled.getAlert()::showAndWait);
+      } finally {
+        AlertPool.release(pooled);
+      }
+    }
+
+    /**
+     * Creates an alert dialog based on the state of this builder and shows it without waiting for
+     * a user response. The returned future is completed with the button pressed by the user once
+     * the alert has been closed, like the result of {@link #showAndWait()}.
+     *
+     * <p>May be called from any thread, the alert is shown on the JavaFX application thread.
+     *
+     * @return the future result of the alert
+     * @see #showAndWait()
+     */
+    public CompletableFuture<Optional<ButtonType>> showAsync() {
+      CompletableFuture<Optional<ButtonType>> result = new CompletableFuture<>();
+      runOnFxThread(
+          result,
+          r -> {
+            AlertPool.PooledAlert pooled = acquireAlert(type, header, content, owner, buttonTypes);
+            Alert alert = pooled.getAlert();
+            alert.setOnHidden(
+                e -> {
+                  Optional<ButtonType> button = Optional.ofNullable(alert.getResult());
+                  AlertPool.release(pooled);
+                  r.complete(button);
+                });
+            recordShow(ALERT, type.name(), alert::show);
+          });
+      return result;
     }
   }
 
@@ -428,9 +578,24 @@ public final class Dialogs {
      * @return the directory chosen by the user or {@code null} if no directory was chosen
      */
     public Path showDialog(Window owner) {
-      File file = build().showDialog(owner);
+      DirectoryChooser chooser = build();
+      File file = recordShow(DIRECTORY_CHOOSER, null, () -> chooser.showDialog(owner));
       return file != null ? file.toPath() : null;
     }
+
+    /**
+     * Builds a directory chooser dialog based on the state of this builder and shows it once the
+     * JavaFX application thread has handled pending events.
+     *
+     * @param owner the owning window
+     * @return the future directory chosen by the user, completed with {@code null} if no directory
+     *     was chosen
+     * @see #showDialog(Window)
+     */
+    public CompletableFuture<Path> showDialogAsync(Window owner) {
+      DirectoryChooser chooser = build();
+      return recordShowLater(DIRECTORY_CHOOSER, () -> toPath(chooser.showDialog(owner)));
+    }
   }
 
   /**
@@ -539,7 +704,8 @@ public final class Dialogs {
      * @see #showSaveDialog(Window)
      */
     public Path showOpenDialog(Window owner) {
-      File file = build().showOpenDialog(owner);
+      FileChooser chooser = build();
+      File file = recordShow(FILE_CHOOSER, null, () -> chooser.showOpenDialog(owner));
       return file != null ? file.toPath() : null;
     }
 
@@ -554,7 +720,9 @@ public final class Dialogs {
      * @see #showSaveDialog(Window)
      */
     public List<Path> showOpenMultipleDialog(Window owner) {
-      List<File> files = build().showOpenMultipleDialog(owner);
+      FileChooser chooser = build();
+      List<File> files =
+          recordShow(FILE_CHOOSER, null, () -> chooser.showOpenMultipleDialog(owner));
       if (files == null) {
         return null;
       }
@@ -576,8 +744,175 @@ public final class Dialogs {
      * @see #showOpenMultipleDialog(Window)
      */
     public Path showSaveDialog(Window owner) {
-      File file = build().showSaveDialog(owner);
+      FileChooser chooser = build();
+      File file = recordShow(FILE_CHOOSER, null, () -> chooser.showSaveDialog(owner));
       return file != null ? file.toPath() : null;
     }
+
+    /**
+     * Builds a file chooser dialog for selecting a single file based on the state of this builder
+     * and shows it once the JavaFX application thread has handled pending events.
+     *
+     * @param owner the owning window
+     * @return the future file chosen by the user, completed with {@code null} if no file was chosen
+     * @see #showOpenDialog(Window)
+     */
+    public CompletableFuture<Path> showOpenDialogAsync(Window owner) {
+      FileChooser chooser = build();
+      return recordShowLater(FILE_CHOOSER, () -> toPath(chooser.showOpenDialog(owner)));
+    }
+
+    /**
+     * Builds a file chooser dialog for selecting multiple files based on the state of this builder
+     * and shows it once the JavaFX application thread has handled pending events.
+     *
+     * @param owner the owning window
+     * @return the future list of files chosen by the user, completed with {@code null} if no file
+     *     was chosen
+     * @see #showOpenMultipleDialog(Window)
+     */
+    public CompletableFuture<List<Path>> showOpenMultipleDialogAsync(Window owner) {
+      FileChooser chooser = build();
+      return recordShowLater(
+          FILE_CHOOSER,
+          () -> {
+            List<File> files = chooser.showOpenMultipleDialog(owner);
+            if (files == null) {
+              return null;
+            }
+            return files.stream().map(File::toPath).collect(Collectors.toList());
+          });
+    }
+
+    /**
+     * Builds a file chooser dialog for selecting a file to save something to it based on the state
+     * of this builder and shows it once the JavaFX application thread has handled pending events.
+     *
+     * @param owner the owning window
+     * @return the future file chosen by the user, completed with {@code null} if no file was chosen
+     * @see #showSaveDialog(Window)
+     */
+    public CompletableFuture<Path> showSaveDialogAsync(Window owner) {
+      FileChooser chooser = build();
+      return recordShowLater(FILE_CHOOSER, () -> toPath(chooser.showSaveDialog(owner)));
+    }
+  }
+
+  /**
+   * A builder for creating file browsers, which are dialogs for selecting a single file built from
+   * JavaFX controls. Directories are read on a background thread and their entries are shown in a
+   * virtualized list as they are read. Directory listings are cached until the directory changes,
+   * so revisiting a directory does not require reading it again.
+   *
+   * @author Benedikt Full
+   */
+  public static class FileBrowserBuilder {
+
+    private String title;
+    private Path initialDirectory;
+    private ExtensionFilter extensionFilter;
+
+    private FileBrowserBuilder() {}
+
+    /**
+     * Sets the title of the file browser dialog.
+     *
+     * @param title the title of the file browser
+     * @return the builder instance the method was called on
+     */
+    public FileBrowserBuilder withTitle(String title) {
+      this.title = title;
+      return this;
+    }
+
+    /**
+     * Sets the directory that will be displayed first by the file browser. Defaults to the home
+     * directory of the user.
+     *
+     * @param initialDirectory the initial directory of the file browser
+     * @return the builder instance the method was called on
+     */
+    public FileBrowserBuilder withInitialDirectory(Path initialDirectory) {
+      this.initialDirectory = initialDirectory;
+      return this;
+    }
+
+    /**
+     * Sets the filter for what type of file is shown by the file browser. Directories are always
+     * shown.
+     *
+     * @param extensionFilter the type of file (by extension) which can be chosen with the browser
+     *     resulting from this builder
+     * @return the builder instance the method was called on
+     * @see #withExtensionFilter(String, String...)
+     */
+    public FileBrowserBuilder withExtensionFilter(ExtensionFilter extensionFilter) {
+      this.extensionFilter = extensionFilter;
+      return this;
+    }
+
+    /**
+     * Sets the filter for what type of file is shown by the file browser. Directories are always
+     * shown.
+     *
+     * @param description a description of the file type
+     * @param extension the extensions of the file type
+     * @return the builder instance the method was called on
+     * @see #withExtensionFilter(ExtensionFilter)
+     */
+    public FileBrowserBuilder withExtensionFilter(String description, String... extension) {
+      extensionFilter = new ExtensionFilter(description, extension);
+      return this;
+    }
+
+    /**
+     * Creates a file browser dialog based on the state of this builder. The result of the dialog is
+     * the selected file, or {@code null} if no file was selected.
+     *
+     * @param owner the owning window
+     * @return the new file browser
+     * @see #showDialog(Window)
+     */
+    public Dialog<Path> build(Window owner) {
+      FileBrowser browser = new FileBrowser(title, initialDirectory, extensionFilter);
+      browser.initOwner(owner);
+      ViewManager.get().applyTheme(browser.getDialogPane());
+      return browser;
+    }
+
+    /**
+     * Builds a file browser dialog based on the state of this builder and shows it, waiting for
+     * the user to select a file.
+     *
+     * @param owner the owning window
+     * @return the file chosen by the user or {@code null} if no file was chosen
+     * @see #showDialogAsync(Window)
+     */
+    public Path showDialog(Window owner) {
+      Dialog<Path> browser = build(owner);
+      return recordShow(FILE_BROWSER, null, browser::showAndWait).orElse(null);
+    }
+
+    /**
+     * Builds a file browser dialog based on the state of this builder and shows it without waiting
+     * for the user to select a file.
+     *
+     * <p>May be called from any thread, the browser is shown on the JavaFX application thread.
+     *
+     * @param owner the owning window
+     * @return the future file chosen by the user, completed with {@code null} if no file was chosen
+     * @see #showDialog(Window)
+     */
+    public CompletableFuture<Path> showDialogAsync(Window owner) {
+      CompletableFuture<Path> result = new CompletableFuture<>();
+      runOnFxThread(
+          result,
+          r -> {
+            Dialog<Path> browser = build(owner);
+            browser.setOnHidden(e -> r.complete(browser.getResult()));
+            recordShow(FILE_BROWSER, null, browser::show);
+          });
+      return result;
+    }
   }
 }
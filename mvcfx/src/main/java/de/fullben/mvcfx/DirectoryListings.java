@@ -0,0 +1,343 @@
+package de.fullben.mvcfx;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javafx.application.Platform;
+
+/**
+ * Lists the entries of directories on a background thread, for the file browser created by {@link
+ * Dialogs#fileBrowser()}.
+ *
+ * <p>Entries are read with a {@link DirectoryStream} and handed to the {@link Observer} of a
+ * listing in batches while the directory is still being read, so the first entries of a huge
+ * directory can be shown right away. Once a directory has been read completely, its sorted entries
+ * are cached. The cached directories are watched with a {@link WatchService}, and a listing is
+ * dropped from the cache as soon as an entry of its directory is created or deleted. Should the
+ * file system not support watching, directories are read anew for every listing.
+ *
+ * <p>The observers of a listing are notified via the executor passed to the constructor, which is
+ * the JavaFX application thread for the instance returned by {@link #get()}.
+ *
+ * @author Benedikt Full
+ */
+final class DirectoryListings {
+
+  static final int BATCH_SIZE = 512;
+  private static final int CAPACITY = 32;
+  private static final Logger LOG = Logger.getLogger(DirectoryListings.class.getName());
+  private static DirectoryListings instance;
+  private final Executor notifier;
+  private final ExecutorService reader;
+  private final Map<Path, CachedListing> cache;
+  private final WatchService watchService;
+
+  /**
+   * Creates a new instance which notifies observers via the given executor.
+   *
+   * @param notifier the executor used for notifying observers
+   */
+  DirectoryListings(Executor notifier) {
+    this.notifier = notifier;
+    reader =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "mvcfx-directory-reader");
+              thread.setDaemon(true);
+              return thread;
+            });
+    cache =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Path, CachedListing> eldest) {
+            if (size() > CAPACITY) {
+              eldest.getValue().key.cancel();
+              return true;
+            }
+            return false;
+          }
+        };
+    watchService = newWatchService();
+    if (watchService != null) {
+      Thread watcher = new Thread(this::watch, "mvcfx-directory-watcher");
+      watcher.setDaemon(true);
+      watcher.start();
+    }
+  }
+
+  /**
+   * Returns the instance notifying observers on the JavaFX application thread.
+   *
+   * @return the instance
+   */
+  static synchronized DirectoryListings get() {
+    if (instance == null) {
+      instance = new DirectoryListings(Platform::runLater);
+    }
+    return instance;
+  }
+
+  /**
+   * Starts listing the given directory. If the directory has been read before and has not changed
+   * since, the observer is notified of the cached entries right away, otherwise the directory is
+   * read on a background thread.
+   *
+   * @param directory the directory to be listed
+   * @param observer the observer to be notified of the entries of the directory
+   * @return the listing, which may be used to cancel it
+   */
+  Listing list(Path directory, Observer observer) {
+    Listing listing = new Listing(observer);
+    List<Entry> cached = getCached(directory);
+    if (cached != null) {
+      notify(listing, () -> observer.completed(cached));
+    } else {
+      reader.execute(() -> read(directory, listing));
+    }
+    return listing;
+  }
+
+  /**
+   * Returns the cached entries of the given directory.
+   *
+   * @param directory the directory
+   * @return the sorted entries of the directory, or {@code null} if they are not cached
+   */
+  List<Entry> getCached(Path directory) {
+    synchronized (cache) {
+      CachedListing cached = cache.get(directory);
+      return cached != null ? cached.entries : null;
+    }
+  }
+
+  private void read(Path directory, Listing listing) {
+    if (listing.cancelled) {
+      return;
+    }
+    // Watching starts before reading, so changes made while reading are not missed
+    WatchKey key = register(directory);
+    List<Entry> entries = new ArrayList<>();
+    List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+      for (Path path : stream) {
+        if (listing.cancelled) {
+          unregister(directory, key);
+          return;
+        }
+        Entry entry = new Entry(path, Files.isDirectory(path));
+        entries.add(entry);
+        batch.add(entry);
+        if (batch.size() == BATCH_SIZE) {
+          List<Entry> found = batch;
+          notify(listing, () -> listing.observer.found(found));
+          batch = new ArrayList<>(BATCH_SIZE);
+        }
+      }
+    } catch (IOException | DirectoryIteratorException e) {
+      IOException cause =
+          e instanceof DirectoryIteratorException
+              ? ((DirectoryIteratorException) e).getCause()
+              : (IOException) e;
+      unregister(directory, key);
+      notify(listing, () -> listing.observer.failed(cause));
+      return;
+    }
+    if (!batch.isEmpty()) {
+      List<Entry> found = batch;
+      notify(listing, () -> listing.observer.found(found));
+    }
+    entries.sort(Entry.ORDER);
+    List<Entry> sorted = Collections.unmodifiableList(entries);
+    if (key != null) {
+      synchronized (cache) {
+        // An invalid key means that the directory has changed while it was being read
+        if (key.isValid()) {
+          cache.put(directory, new CachedListing(key, sorted));
+        }
+      }
+    }
+    notify(listing, () -> listing.observer.completed(sorted));
+  }
+
+  private void notify(Listing listing, Runnable notification) {
+    notifier.execute(
+        () -> {
+          if (!listing.cancelled) {
+            notification.run();
+          }
+        });
+  }
+
+  private WatchKey register(Path directory) {
+    if (watchService == null) {
+      return null;
+    }
+    try {
+      return directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE);
+    } catch (IOException | UnsupportedOperationException | ClosedWatchServiceException e) {
+      return null;
+    }
+  }
+
+  /** Stops watching the given directory, unless it is watched for a cached listing. */
+  private void unregister(Path directory, WatchKey key) {
+    if (key == null) {
+      return;
+    }
+    synchronized (cache) {
+      CachedListing cached = cache.get(directory);
+      if (cached == null || cached.key != key) {
+        key.cancel();
+      }
+    }
+  }
+
+  private void watch() {
+    while (true) {
+      WatchKey key;
+      try {
+        key = watchService.take();
+      } catch (InterruptedException | ClosedWatchServiceException e) {
+        return;
+      }
+      key.pollEvents();
+      synchronized (cache) {
+        key.cancel();
+        cache.remove((Path) key.watchable());
+      }
+    }
+  }
+
+  private static WatchService newWatchService() {
+    try {
+      return FileSystems.getDefault().newWatchService();
+    } catch (IOException | UnsupportedOperationException e) {
+      LOG.log(Level.FINE, "Directory listings cannot be cached", e);
+      return null;
+    }
+  }
+
+  /**
+   * Receives the entries of a directory listing. Either {@link #completed(List)} or {@link
+   * #failed(IOException)} is called once per listing, unless the listing has been cancelled.
+   *
+   * @author Benedikt Full
+   */
+  interface Observer {
+
+    /**
+     * Called with entries which have been read from the directory, in the order of the directory.
+     * Not called for cached listings.
+     *
+     * @param entries the entries read since the last call
+     */
+    void found(List<Entry> entries);
+
+    /**
+     * Called once all entries of the directory have been read.
+     *
+     * @param entries all entries of the directory, sorted with directories first and by name
+     */
+    void completed(List<Entry> entries);
+
+    /**
+     * Called if the directory cannot be read.
+     *
+     * @param e the reason for the failure
+     */
+    void failed(IOException e);
+  }
+
+  /**
+   * A listing of a directory, which is either running or finished.
+   *
+   * @author Benedikt Full
+   */
+  static final class Listing {
+
+    private final Observer observer;
+    private volatile boolean cancelled;
+
+    private Listing(Observer observer) {
+      this.observer = observer;
+      cancelled = false;
+    }
+
+    /** Stops reading the directory and notifying the observer of this listing. */
+    void cancel() {
+      cancelled = true;
+    }
+  }
+
+  /**
+   * An entry of a directory. The string representation of an entry is its name, followed by the
+   * name separator for directories.
+   *
+   * @author Benedikt Full
+   */
+  static final class Entry {
+
+    /** Orders directories before files, and entries of the same kind by name. */
+    static final Comparator<Entry> ORDER =
+        Comparator.comparing((Entry entry) -> !entry.directory)
+            .thenComparing(entry -> entry.name, String.CASE_INSENSITIVE_ORDER);
+    private final Path path;
+    private final String name;
+    private final boolean directory;
+
+    Entry(Path path, boolean directory) {
+      this.path = path;
+      Path fileName = path.getFileName();
+      name = fileName != null ? fileName.toString() : path.toString();
+      this.directory = directory;
+    }
+
+    Path getPath() {
+      return path;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    boolean isDirectory() {
+      return directory;
+    }
+
+    @Override
+    public String toString() {
+      return directory ? name + path.getFileSystem().getSeparator() : name;
+    }
+  }
+
+  private static final class CachedListing {
+
+    private final WatchKey key;
+    private final List<Entry> entries;
+
+    private CachedListing(WatchKey key, List<Entry> entries) {
+      this.key = key;
+      this.entries = entries;
+    }
+  }
+}
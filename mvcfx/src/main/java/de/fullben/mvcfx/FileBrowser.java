@@ -0,0 +1,243 @@
+package de.fullben.mvcfx;
+
+import de.fullben.mvcfx.DirectoryListings.Entry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.scene.control.Button;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.DialogEvent;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser.ExtensionFilter;
+
+/**
+ * A file browser dialog built from JavaFX controls, for selecting a single file. Unlike the native
+ * {@link javafx.stage.FileChooser}, the browser reads directories on a background thread and shows
+ * their entries while they are being read, in a virtualized list which only creates cells for the
+ * visible entries. Directory listings are provided by {@link DirectoryListings}, which caches them
+ * until the directory changes.
+ *
+ * <p>Entries are sorted, with directories first, and filtered by the extension filter of the
+ * browser and by the text entered into the filter field. Sorting and filtering are applied to
+ * entries as they arrive, so the list keeps its scroll position and selection while a directory is
+ * read, and changing the filter text only filters the entries read already, without reading the
+ * directory again.
+ *
+ * @see Dialogs#fileBrowser()
+ * @author Benedikt Full
+ */
+final class FileBrowser extends Dialog<Path> {
+
+  private final ObservableList<Entry> entries;
+  private final FilteredList<Entry> filteredEntries;
+  private final ListView<Entry> lvEntries;
+  private final TextField tfLocation;
+  private final TextField tfFilter;
+  private final Label lStatus;
+  private final List<String> extensions;
+  private DirectoryListings.Listing listing;
+  private Path directory;
+
+  /**
+   * Creates a new browser.
+   *
+   * @param title the title of the dialog
+   * @param initialDirectory the directory shown first, or {@code null} for the user's home
+   *     directory
+   * @param extensionFilter the filter for the files shown, or {@code null} to show all files
+   */
+  FileBrowser(String title, Path initialDirectory, ExtensionFilter extensionFilter) {
+    setTitle(title);
+    entries = FXCollections.observableArrayList();
+    filteredEntries = new FilteredList<>(new SortedList<>(entries, Entry.ORDER));
+    extensions = new ArrayList<>();
+    if (extensionFilter != null) {
+      for (String extension : extensionFilter.getExtensions()) {
+        // Extensions are given as patterns like *.txt, only their suffix is of interest
+        String suffix = extension.startsWith("*") ? extension.substring(1) : extension;
+        if (suffix.isEmpty() || suffix.equals(".*")) {
+          extensions.clear();
+          break;
+        }
+        extensions.add(suffix.toLowerCase(Locale.ROOT));
+      }
+    }
+    lvEntries = new ListView<>(filteredEntries);
+    lvEntries.setOnMouseClicked(
+        event -> {
+          if (event.getButton() == MouseButton.PRIMARY && event.getClickCount() == 2) {
+            open(lvEntries.getSelectionModel().getSelectedItem());
+          }
+        });
+    tfLocation = new TextField();
+    tfLocation.setOnAction(event -> browseTo(tfLocation.getText()));
+    tfFilter = new TextField();
+    tfFilter.setPromptText("Filter");
+    tfFilter.textProperty().addListener((observable, oldText, newText) -> updateFilter());
+    Button bParent = new Button("Up");
+    bParent.setOnAction(event -> browseParent());
+    lStatus = new Label();
+    HBox hbLocation = new HBox(bParent, tfLocation);
+    hbLocation.setSpacing(5);
+    HBox.setHgrow(tfLocation, Priority.ALWAYS);
+    VBox vbContent = new VBox(hbLocation, tfFilter, lvEntries, lStatus);
+    vbContent.setSpacing(5);
+    vbContent.setPrefSize(600, 400);
+    VBox.setVgrow(lvEntries, Priority.ALWAYS);
+    getDialogPane().setContent(vbContent);
+    getDialogPane().getButtonTypes().setAll(ButtonType.OK, ButtonType.CANCEL);
+    getDialogPane()
+        .lookupButton(ButtonType.OK)
+        .disableProperty()
+        .bind(lvEntries.getSelectionModel().selectedItemProperty().isNull());
+    setResultConverter(
+        buttonType -> {
+          Entry selected = lvEntries.getSelectionModel().getSelectedItem();
+          if (buttonType != ButtonType.OK || selected == null || selected.isDirectory()) {
+            return null;
+          }
+          return selected.getPath();
+        });
+    addEventHandler(DialogEvent.DIALOG_HIDDEN, event -> cancelListing());
+    updateFilter();
+    if (initialDirectory == null) {
+      initialDirectory = Paths.get(System.getProperty("user.home"));
+    }
+    browse(initialDirectory);
+  }
+
+  /**
+   * Shows the entries of the given directory, replacing the entries shown so far.
+   *
+   * @param directory the directory to be shown
+   */
+  void browse(Path directory) {
+    cancelListing();
+    this.directory = directory.toAbsolutePath().normalize();
+    tfLocation.setText(this.directory.toString());
+    entries.clear();
+    lStatus.setText("Reading directory...");
+    listing = DirectoryListings.get().list(this.directory, new EntryObserver());
+  }
+
+  private void browseTo(String location) {
+    Path path;
+    try {
+      path = Paths.get(location);
+    } catch (InvalidPathException e) {
+      lStatus.setText("Invalid path: " + location);
+      return;
+    }
+    if (Files.isDirectory(path)) {
+      browse(path);
+    } else {
+      lStatus.setText("Not a directory: " + location);
+    }
+  }
+
+  private void browseParent() {
+    Path parent = directory.getParent();
+    if (parent != null) {
+      browse(parent);
+    }
+  }
+
+  private void open(Entry entry) {
+    if (entry == null) {
+      return;
+    }
+    if (entry.isDirectory()) {
+      browse(entry.getPath());
+    } else {
+      setResult(entry.getPath());
+      close();
+    }
+  }
+
+  private void cancelListing() {
+    if (listing != null) {
+      listing.cancel();
+      listing = null;
+    }
+  }
+
+  private void updateFilter() {
+    String text = tfFilter.getText();
+    String filter = text == null ? "" : text.toLowerCase(Locale.ROOT);
+    Predicate<Entry> predicate =
+        entry -> {
+          String name = entry.getName().toLowerCase(Locale.ROOT);
+          if (!filter.isEmpty() && !name.contains(filter)) {
+            return false;
+          }
+          return entry.isDirectory() || matchesExtension(name);
+        };
+    filteredEntries.setPredicate(predicate);
+    if (listing == null) {
+      updateStatus();
+    }
+  }
+
+  private boolean matchesExtension(String name) {
+    if (extensions.isEmpty()) {
+      return true;
+    }
+    for (String extension : extensions) {
+      if (name.endsWith(extension)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void updateStatus() {
+    lStatus.setText(filteredEntries.size() + " of " + entries.size() + " entries");
+  }
+
+  /**
+   * Adds the entries of the current listing to the browser as they arrive.
+   *
+   * @author Benedikt Full
+   */
+  private final class EntryObserver implements DirectoryListings.Observer {
+
+    @Override
+    public void found(List<Entry> found) {
+      entries.addAll(found);
+      lStatus.setText("Reading directory... " + entries.size() + " entries so far");
+    }
+
+    @Override
+    public void completed(List<Entry> all) {
+      // Cached listings are completed without handing out their entries as found beforehand
+      if (entries.isEmpty()) {
+        entries.setAll(all);
+      }
+      listing = null;
+      updateStatus();
+    }
+
+    @Override
+    public void failed(IOException e) {
+      listing = null;
+      lStatus.setText("Cannot read directory: " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package de.fullben.mvcfx;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The JDK Flight Recorder events emitted by the library. The events are only recorded while a
+ * recording is running (e.g. after {@code jcmd <pid> JFR.start}), in which case they show up in the
+ * {@value #CATEGORY} category of the recording. Otherwise, emitting an event costs little more than
+ * allocating it.
+ *
+ * @author Benedikt Full
+ */
+final class FlightRecorderEvents {
+
+  static final String CATEGORY = "mvcFX";
+  private static final String NAME_PREFIX = "de.fullben.mvcfx.";
+
+  private FlightRecorderEvents() {
+    throw new AssertionError();
+  }
+
+  @Name(NAME_PREFIX + "FxmlLoad")
+  @Label("FXML Load")
+  @Category(CATEGORY)
+  @Description("Loading of the node hierarchy of an FxmlView")
+  @StackTrace(false)
+  static final class FxmlLoad extends Event {
+
+    static final String FXML_LOADER = "FXMLLoader";
+    static final String COMPILED = "Compiled";
+    static final String PRELOADED = "Preloaded";
+
+    @Label("View Type")
+    Class<?> viewType;
+
+    @Label("Source")
+    @Description(
+        "How the view has been loaded: " + FXML_LOADER + ", " + COMPILED + ", or " + PRELOADED)
+    String source;
+
+    @Label("Parse Duration")
+    @Description(
+        "Time spent building the node hierarchy, including the injection of fields for views"
+            + " loaded by the FXMLLoader")
+    @Timespan
+    long parseDuration;
+
+    @Label("Inject Duration")
+    @Description("Time spent injecting fields, binding handlers, and initializing the view")
+    @Timespan
+    long injectDuration;
+  }
+
+  @Name(NAME_PREFIX + "ThemeChange")
+  @Label("Theme Change")
+  @Category(CATEGORY)
+  @Description("Application of a new theme to all registered views and alerts")
+  static final class ThemeChange extends Event {
+
+    @Label("Theme")
+    String theme;
+
+    @Label("View Count")
+    int viewCount;
+
+    @Label("Alert Count")
+    int alertCount;
+  }
+
+  @Name(NAME_PREFIX + "ThemeApplication")
+  @Label("Theme Application")
+  @Category(CATEGORY)
+  @Description("Application of a theme to a single view")
+  @StackTrace(false)
+  static final class ThemeApplication extends Event {
+
+    @Label("View Type")
+    Class<?> viewType;
+
+    @Label("Theme")
+    String theme;
+  }
+
+  @Name(NAME_PREFIX + "LocaleChange")
+  @Label("Locale Change")
+  @Category(CATEGORY)
+  @Description("Change of the locale, which schedules the relabeling of all registered views")
+  static final class LocaleChange extends Event {
+
+    @Label("Locale")
+    String locale;
+
+    @Label("View Count")
+    int viewCount;
+  }
+
+  @Name(NAME_PREFIX + "ViewRelabel")
+  @Label("View Relabel")
+  @Category(CATEGORY)
+  @Description("Update of the localized texts of a single view for a new locale")
+  @StackTrace(false)
+  static final class ViewRelabel extends Event {
+
+    @Label("View Type")
+    Class<?> viewType;
+
+    @Label("Locale")
+    String locale;
+
+    @Label("Text Count")
+    int textCount;
+  }
+
+  @Name(NAME_PREFIX + "ScopePublish")
+  @Label("Scope Publish")
+  @Category(CATEGORY)
+  @Description("Publication of a scope message")
+  static final class ScopePublish extends Event {
+
+    @Label("Scope Type")
+    Class<?> scopeType;
+
+    @Label("Message")
+    String message;
+
+    @Label("Subscriber Count")
+    int subscriberCount;
+
+    @Label("Deferred")
+    @Description("Whether the message is delivered later on the JavaFX application thread")
+    boolean deferred;
+  }
+
+  @Name(NAME_PREFIX + "ScopeDelivery")
+  @Label("Scope Delivery")
+  @Category(CATEGORY)
+  @Description("Delivery of a scope message to a single subscriber")
+  @StackTrace(false)
+  static final class ScopeDelivery extends Event {
+
+    @Label("Scope Type")
+    Class<?> scopeType;
+
+    @Label("Message")
+    String message;
+
+    @Label("Subscriber Type")
+    Class<?> subscriberType;
+  }
+
+  @Name(NAME_PREFIX + "ControllerStartUp")
+  @Label("Controller Start Up")
+  @Category(CATEGORY)
+  @Description("Start up of a controller via Controller.startUp(Controller)")
+  static final class ControllerStartUp extends Event {
+
+    @Label("Controller Type")
+    Class<?> controllerType;
+  }
+
+  @Name(NAME_PREFIX + "DialogShow")
+  @Label("Dialog Show")
+  @Category(CATEGORY)
+  @Description(
+      "Showing of a dialog created by Dialogs, including the time the user spent in the dialog"
+          + " if the call waits for a response")
+  static final class DialogShow extends Event {
+
+    @Label("Dialog Type")
+    String dialogType;
+
+    @Label("Alert Type")
+    String alertType;
+
+    @Label("Waiting")
+    @Description("Whether the call blocks until the dialog has been closed")
+    boolean waiting;
+  }
+}
@@ -0,0 +1,344 @@
+package de.fullben.mvcfx;
+
+import static java.util.Objects.requireNonNull;
+
+import de.fullben.mvcfx.FrameStatistics.ViewFrameStatistics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+/**
+ * Records the pulses of the JavaFX application thread, which allows for monitoring whether the user
+ * interface renders smoothly. The metrics instance of the application can be accessed by calling
+ * the {@link #get()} method.
+ *
+ * <p>Recording is opt-in and has to be started by calling {@link #start()}. Once started, the
+ * interval between pulses and the duration of every pulse are recorded into histograms, which are
+ * collected per window of time (ten seconds by default, see {@link #setWindow(Duration)}). When a
+ * window ends, its {@link FrameStatistics} are handed to the registered listeners, which can for
+ * example compare frame time percentiles against a service level objective. Each pulse is
+ * attributed to the view hosting the focused window, i.e. the view whose root is the root of the
+ * window's scene.
+ *
+ * <pre>
+ *   FrameMetrics.get().addListener(statistics -&gt; {
+ *     if (statistics.getIntervalAtPercentile(99).toMillis() &gt; 50) {
+ *       ...
+ *     }
+ *   });
+ *   FrameMetrics.get().start();
+ * </pre>
+ *
+ * <p>Note that while recording, JavaFX produces a pulse for every frame even if nothing in the
+ * scene graph changes, so recording should not be left enabled on battery-powered devices without
+ * reason. All methods, except for {@link #getLastWindow()}, must be called on the JavaFX
+ * application thread. Listeners are called on the application thread as well.
+ *
+ * @see FrameStatistics
+ * @author Benedikt Full
+ */
+public final class FrameMetrics {
+
+  private static final Logger LOG = Logger.getLogger(FrameMetrics.class.getName());
+  private static final FrameMetrics FRAME_METRICS = new FrameMetrics();
+  private static final Duration DEFAULT_WINDOW = Duration.ofSeconds(10);
+  private static final double DEFAULT_TARGET_FRAME_RATE = 60;
+  private final Runnable layoutListener;
+  private final List<WindowListener> listeners;
+  private final Map<Class<?>, ViewRecord> views;
+  private long windowNanos;
+  private long framePeriodNanos;
+  private AnimationTimer timer;
+  private Instant windowStart;
+  private long windowStartNanos;
+  private FrameTimeHistogram intervals;
+  private FrameTimeHistogram durations;
+  private long droppedFrames;
+  private long lastPulse;
+  private long pulseStart;
+  private boolean pulsePending;
+  private ViewRecord pulseView;
+  private Scene observedScene;
+  private Parent attributedRoot;
+  private ViewRecord attributedView;
+  private volatile FrameStatistics lastWindow;
+
+  private FrameMetrics() {
+    layoutListener = this::layoutCompleted;
+    listeners = new CopyOnWriteArrayList<>();
+    views = new LinkedHashMap<>();
+    windowNanos = DEFAULT_WINDOW.toNanos();
+    framePeriodNanos = Math.round(1e9 / DEFAULT_TARGET_FRAME_RATE);
+    timer = null;
+    lastWindow = null;
+    resetWindow();
+  }
+
+  /**
+   * Returns the singleton frame metrics instance.
+   *
+   * @return the instance, which will never be {@code null}
+   */
+  public static FrameMetrics get() {
+    return FRAME_METRICS;
+  }
+
+  /** Starts recording pulses. Does nothing if recording has been started already. */
+  public void start() {
+    if (timer != null) {
+      return;
+    }
+    timer =
+        new AnimationTimer() {
+          @Override
+          public void handle(long now) {
+            pulse(now);
+          }
+        };
+    lastPulse = Long.MIN_VALUE;
+    resetWindow();
+    timer.start();
+  }
+
+  /**
+   * Stops recording pulses. The statistics of the window in progress are discarded. Does nothing
+   * if recording is not running.
+   */
+  public void stop() {
+    if (timer == null) {
+      return;
+    }
+    timer.stop();
+    timer = null;
+    observe(null);
+    resetWindow();
+  }
+
+  /**
+   * Returns whether pulses are being recorded.
+   *
+   * @return {@code true} if recording has been started and not been stopped since
+   */
+  public boolean isRunning() {
+    return timer != null;
+  }
+
+  /**
+   * Sets the length of the windows of time statistics are collected for. Takes effect with the
+   * next window.
+   *
+   * @param window the length of the windows, must be positive
+   * @throws IllegalArgumentException if the window is not positive
+   */
+  public void setWindow(Duration window) {
+    requireNonNull(window, "Window must not be null");
+    if (window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException("Window must be positive");
+    }
+    windowNanos = window.toNanos();
+  }
+
+  /**
+   * Sets the frame rate the application is expected to render at, which determines whether frames
+   * are considered dropped. The default is 60 frames per second.
+   *
+   * @param framesPerSecond the target frame rate, must be positive
+   * @throws IllegalArgumentException if the frame rate is not positive
+   */
+  public void setTargetFrameRate(double framesPerSecond) {
+    if (!(framesPerSecond > 0)) {
+      throw new IllegalArgumentException("Frame rate must be positive");
+    }
+    framePeriodNanos = Math.round(1e9 / framesPerSecond);
+  }
+
+  /**
+   * Adds a listener which is notified whenever a window of time has ended.
+   *
+   * @param listener the listener to be added, must not be {@code null}
+   */
+  public void addListener(WindowListener listener) {
+    listeners.add(requireNonNull(listener, "Listener must not be null"));
+  }
+
+  /**
+   * Removes the given listener.
+   *
+   * @param listener the listener to be removed
+   * @return {@code true} if the listener has been removed, {@code false} if it was not registered
+   */
+  public boolean removeListener(WindowListener listener) {
+    return listeners.remove(listener);
+  }
+
+  /**
+   * Returns the statistics of the window of time in progress.
+   *
+   * @return the statistics recorded since the start of the current window
+   */
+  public FrameStatistics getCurrentWindow() {
+    return statistics(Instant.now());
+  }
+
+  /**
+   * Returns the statistics of the last completed window of time. May be called from any thread.
+   *
+   * @return the statistics of the last window, or {@code null} if no window has been completed yet
+   */
+  public FrameStatistics getLastWindow() {
+    return lastWindow;
+  }
+
+  private void pulse(long now) {
+    long start = System.nanoTime();
+    if (start - windowStartNanos >= windowNanos) {
+      completeWindow();
+    }
+    Scene scene = focusedScene();
+    observe(scene);
+    pulseView = attribute(scene);
+    if (lastPulse != Long.MIN_VALUE) {
+      long interval = now - lastPulse;
+      long dropped = droppedFrames(interval);
+      intervals.record(interval);
+      droppedFrames += dropped;
+      if (pulseView != null) {
+        pulseView.pulses++;
+        pulseView.droppedFrames += dropped;
+      }
+    }
+    lastPulse = now;
+    pulseStart = start;
+    pulsePending = scene != null;
+  }
+
+  private void layoutCompleted() {
+    if (!pulsePending) {
+      return;
+    }
+    pulsePending = false;
+    long duration = System.nanoTime() - pulseStart;
+    durations.record(duration);
+    if (pulseView != null) {
+      pulseView.durations.record(duration);
+    }
+  }
+
+  private long droppedFrames(long interval) {
+    if (interval <= framePeriodNanos + framePeriodNanos / 2) {
+      return 0;
+    }
+    return Math.max(1, Math.round((double) interval / framePeriodNanos) - 1);
+  }
+
+  private void observe(Scene scene) {
+    if (scene == observedScene) {
+      return;
+    }
+    if (observedScene != null) {
+      observedScene.removePostLayoutPulseListener(layoutListener);
+    }
+    observedScene = scene;
+    if (scene != null) {
+      scene.addPostLayoutPulseListener(layoutListener);
+    }
+  }
+
+  private ViewRecord attribute(Scene scene) {
+    Parent root = scene == null ? null : scene.getRoot();
+    if (root != attributedRoot) {
+      attributedRoot = root;
+      View<?, ?> view = root == null ? null : ViewManager.get().findView(root);
+      attributedView =
+          view == null ? null : views.computeIfAbsent(view.getClass(), type -> new ViewRecord());
+    }
+    return attributedView;
+  }
+
+  private void completeWindow() {
+    FrameStatistics statistics = statistics(Instant.now());
+    lastWindow = statistics;
+    resetWindow();
+    for (WindowListener listener : listeners) {
+      try {
+        listener.windowCompleted(statistics);
+      } catch (RuntimeException e) {
+        LOG.log(Level.WARNING, "Frame metrics listener failed", e);
+      }
+    }
+  }
+
+  private FrameStatistics statistics(Instant end) {
+    List<ViewFrameStatistics> viewStatistics = new ArrayList<>();
+    for (Entry<Class<?>, ViewRecord> entry : views.entrySet()) {
+      ViewRecord view = entry.getValue();
+      viewStatistics.add(
+          new ViewFrameStatistics(
+              entry.getKey().getName(), view.pulses, view.droppedFrames, view.durations.copy()));
+    }
+    return new FrameStatistics(
+        windowStart, end, intervals.copy(), durations.copy(), droppedFrames, viewStatistics);
+  }
+
+  private void resetWindow() {
+    windowStart = Instant.now();
+    windowStartNanos = System.nanoTime();
+    intervals = new FrameTimeHistogram();
+    durations = new FrameTimeHistogram();
+    droppedFrames = 0;
+    views.clear();
+    attributedRoot = null;
+    attributedView = null;
+    pulseView = null;
+    pulsePending = false;
+  }
+
+  private static Scene focusedScene() {
+    for (Window window : Window.getWindows()) {
+      if (window.isFocused()) {
+        return window.getScene();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Listens for the completion of windows of time recorded by {@link FrameMetrics}.
+   *
+   * @author Benedikt Full
+   */
+  @FunctionalInterface
+  public interface WindowListener {
+
+    /**
+     * Called once a window of time has ended.
+     *
+     * @param statistics the statistics of the window, never {@code null}
+     */
+    void windowCompleted(FrameStatistics statistics);
+  }
+
+  private static final class ViewRecord {
+
+    private final FrameTimeHistogram durations;
+    private long pulses;
+    private long droppedFrames;
+
+    private ViewRecord() {
+      durations = new FrameTimeHistogram();
+      pulses = 0;
+      droppedFrames = 0;
+    }
+  }
+}
@@ -0,0 +1,244 @@
+package de.fullben.mvcfx;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The pulse statistics of a window of time, as recorded by {@link FrameMetrics}.
+ *
+ * <p>A pulse is the unit of work in which JavaFX processes animations, applies CSS, lays out, and
+ * renders the scenes of an application, so each pulse produces a frame. The statistics contain the
+ * distribution of the intervals between pulses (the frame times) and of the durations of the
+ * pulses, both of which can be queried by percentile with a relative error of about 3 percent.
+ * Frames are considered dropped if the interval between two pulses exceeds the frame period of the
+ * target frame rate by more than half a period.
+ *
+ * <p>Pulses are attributed to the view hosting the focused window at the time of the pulse. The
+ * per-view statistics can be used to tell which views render slowly.
+ *
+ * @see FrameMetrics
+ * @author Benedikt Full
+ */
+public final class FrameStatistics {
+
+  private final Instant start;
+  private final Instant end;
+  private final FrameTimeHistogram intervals;
+  private final FrameTimeHistogram durations;
+  private final long droppedFrames;
+  private final List<ViewFrameStatistics> views;
+
+  FrameStatistics(
+      Instant start,
+      Instant end,
+      FrameTimeHistogram intervals,
+      FrameTimeHistogram durations,
+      long droppedFrames,
+      List<ViewFrameStatistics> views) {
+    this.start = start;
+    this.end = end;
+    this.intervals = intervals;
+    this.durations = durations;
+    this.droppedFrames = droppedFrames;
+    List<ViewFrameStatistics> sorted = new ArrayList<>(views);
+    sorted.sort(
+        Comparator.comparingLong(ViewFrameStatistics::getPulseCount)
+            .reversed()
+            .thenComparing(ViewFrameStatistics::getTypeName));
+    this.views = Collections.unmodifiableList(sorted);
+  }
+
+  /**
+   * Returns the start of the window of time the statistics cover.
+   *
+   * @return the start of the window
+   */
+  public Instant getStart() {
+    return start;
+  }
+
+  /**
+   * Returns the end of the window of time the statistics cover.
+   *
+   * @return the end of the window
+   */
+  public Instant getEnd() {
+    return end;
+  }
+
+  /**
+   * Returns the number of pulses during the window.
+   *
+   * @return the number of pulses
+   */
+  public long getPulseCount() {
+    return intervals.getTotalCount();
+  }
+
+  /**
+   * Returns the number of frames which have been dropped during the window.
+   *
+   * @return the number of dropped frames
+   */
+  public long getDroppedFrameCount() {
+    return droppedFrames;
+  }
+
+  /**
+   * Returns the interval between pulses (the frame time) at the given percentile.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the interval at the percentile, or zero if no pulses have been recorded
+   * @throws IllegalArgumentException if the percentile is out of range
+   */
+  public Duration getIntervalAtPercentile(double percentile) {
+    return Duration.ofNanos(intervals.valueAtPercentile(percentile));
+  }
+
+  /**
+   * Returns the longest interval between pulses.
+   *
+   * @return the longest interval, or zero if no pulses have been recorded
+   */
+  public Duration getMaxInterval() {
+    return Duration.ofNanos(intervals.getMax());
+  }
+
+  /**
+   * Returns the duration of pulses at the given percentile. The duration of a pulse is measured
+   * from the start of the pulse until the layout of the focused window's scene has been completed,
+   * so it covers animations, CSS, and layout, but not the rendering of the scene.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the duration at the percentile, or zero if no durations have been recorded
+   * @throws IllegalArgumentException if the percentile is out of range
+   */
+  public Duration getDurationAtPercentile(double percentile) {
+    return Duration.ofNanos(durations.valueAtPercentile(percentile));
+  }
+
+  /**
+   * Returns the longest duration of a pulse.
+   *
+   * @return the longest duration, or zero if no durations have been recorded
+   */
+  public Duration getMaxDuration() {
+    return Duration.ofNanos(durations.getMax());
+  }
+
+  /**
+   * Returns the statistics of the views pulses have been attributed to, ordered by descending
+   * pulse count.
+   *
+   * @return an unmodifiable list of the view statistics
+   */
+  public List<ViewFrameStatistics> getViewStatistics() {
+    return views;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    report
+        .append("Frame statistics from ")
+        .append(start)
+        .append(" to ")
+        .append(end)
+        .append(": ")
+        .append(getPulseCount())
+        .append(" pulses, ")
+        .append(droppedFrames)
+        .append(" dropped frames, interval p50/p99/max ")
+        .append(getIntervalAtPercentile(50).toMillis())
+        .append('/')
+        .append(getIntervalAtPercentile(99).toMillis())
+        .append('/')
+        .append(getMaxInterval().toMillis())
+        .append(" ms, duration p50/p99/max ")
+        .append(getDurationAtPercentile(50).toMillis())
+        .append('/')
+        .append(getDurationAtPercentile(99).toMillis())
+        .append('/')
+        .append(getMaxDuration().toMillis())
+        .append(" ms");
+    for (ViewFrameStatistics view : views) {
+      report.append(System.lineSeparator()).append("  ").append(view);
+    }
+    return report.toString();
+  }
+
+  /**
+   * The pulse statistics of a single view class.
+   *
+   * @author Benedikt Full
+   */
+  public static final class ViewFrameStatistics {
+
+    private final String typeName;
+    private final long pulseCount;
+    private final long droppedFrames;
+    private final FrameTimeHistogram durations;
+
+    ViewFrameStatistics(
+        String typeName, long pulseCount, long droppedFrames, FrameTimeHistogram durations) {
+      this.typeName = typeName;
+      this.pulseCount = pulseCount;
+      this.droppedFrames = droppedFrames;
+      this.durations = durations;
+    }
+
+    /**
+     * Returns the fully qualified name of the view class.
+     *
+     * @return the name of the view class
+     */
+    public String getTypeName() {
+      return typeName;
+    }
+
+    /**
+     * Returns the number of pulses attributed to views of the class.
+     *
+     * @return the number of pulses
+     */
+    public long getPulseCount() {
+      return pulseCount;
+    }
+
+    /**
+     * Returns the number of dropped frames attributed to views of the class.
+     *
+     * @return the number of dropped frames
+     */
+    public long getDroppedFrameCount() {
+      return droppedFrames;
+    }
+
+    /**
+     * Returns the duration of the pulses attributed to views of the class at the given percentile.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the duration at the percentile, or zero if no durations have been recorded
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public Duration getDurationAtPercentile(double percentile) {
+      return Duration.ofNanos(durations.valueAtPercentile(percentile));
+    }
+
+    @Override
+    public String toString() {
+      return typeName
+          + ": "
+          + pulseCount
+          + " pulses, "
+          + droppedFrames
+          + " dropped frames, duration p99 "
+          + getDurationAtPercentile(99).toMillis()
+          + " ms";
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package de.fullben.mvcfx;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of non-negative durations in nanoseconds with a fixed relative precision, modeled
+ * after HdrHistogram. Values are counted in buckets whose width grows with the magnitude of the
+ * values, so that every recorded value can be reported with an error of less than 1/{@value
+ * #SUB_BUCKET_COUNT} of the value, while recording takes constant time and no allocations.
+ *
+ * <p>The histogram is not thread-safe.
+ *
+ * @author Benedikt Full
+ */
+final class FrameTimeHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+  private final long[] counts;
+  private long totalCount;
+  private long min;
+  private long max;
+
+  FrameTimeHistogram() {
+    counts = new long[BUCKET_COUNT];
+    totalCount = 0;
+    min = Long.MAX_VALUE;
+    max = 0;
+  }
+
+  private FrameTimeHistogram(FrameTimeHistogram histogram) {
+    counts = Arrays.copyOf(histogram.counts, BUCKET_COUNT);
+    totalCount = histogram.totalCount;
+    min = histogram.min;
+    max = histogram.max;
+  }
+
+  /**
+   * Records the given value. Negative values are recorded as zero.
+   *
+   * @param nanos the value to be recorded
+   */
+  void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts[indexOf(value)]++;
+    totalCount++;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+  }
+
+  long getTotalCount() {
+    return totalCount;
+  }
+
+  long getMin() {
+    return totalCount == 0 ? 0 : min;
+  }
+
+  long getMax() {
+    return max;
+  }
+
+  /**
+   * Returns the value at the given percentile, which is the largest value that is equivalent (in
+   * terms of the precision of this histogram) to the smallest recorded value that at least the
+   * given percentage of all recorded values are less than or equal to.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the value at the percentile, or zero if no values have been recorded
+   * @throws IllegalArgumentException if the percentile is out of range
+   */
+  long valueAtPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+    }
+    if (totalCount == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(max, highestEquivalentValue(i));
+      }
+    }
+    return max;
+  }
+
+  FrameTimeHistogram copy() {
+    return new FrameTimeHistogram(this);
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long highestEquivalentValue(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int magnitude = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    long width = 1L << (magnitude - SUB_BUCKET_BITS);
+    long lowest = (1L << magnitude) + (index % SUB_BUCKET_COUNT) * width;
+    return lowest + width - 1;
+  }
+}
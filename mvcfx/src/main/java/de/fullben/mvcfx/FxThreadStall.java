@@ -0,0 +1,222 @@
+package de.fullben.mvcfx;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * A period during which the JavaFX application thread did not process any events, as detected by
+ * an {@link FxThreadWatchdog}.
+ *
+ * <p>While the application thread is stalled, the watchdog repeatedly samples its stack. The stall
+ * aggregates these samples: identical stacks are only kept once, and each sample is attributed to
+ * its hot frame, which is the topmost frame outside of the Java and JavaFX platform classes (e.g.
+ * the application method calling a blocking I/O method). The hot frames with the highest number of
+ * samples point to the code which kept the application thread busy.
+ *
+ * @see FxThreadWatchdog
+ * @author Benedikt Full
+ */
+public final class FxThreadStall {
+
+  /** The maximum number of hot frames reported per stall. */
+  public static final int MAX_HOT_FRAMES = 10;
+
+  private static final String[] PLATFORM_PACKAGES = {
+    "java.", "javax.", "jdk.", "sun.", "com.sun.", "javafx."
+  };
+
+  private final Duration duration;
+  private final int sampleCount;
+  private final int distinctStackCount;
+  private final List<HotFrame> hotFrames;
+  private final List<StackTraceElement> stackTrace;
+
+  private FxThreadStall(
+      Duration duration,
+      int sampleCount,
+      int distinctStackCount,
+      List<HotFrame> hotFrames,
+      List<StackTraceElement> stackTrace) {
+    this.duration = duration;
+    this.sampleCount = sampleCount;
+    this.distinctStackCount = distinctStackCount;
+    this.hotFrames = Collections.unmodifiableList(hotFrames);
+    this.stackTrace = Collections.unmodifiableList(stackTrace);
+  }
+
+  /**
+   * Aggregates the given stack samples of the application thread into a stall.
+   *
+   * @param duration the time the application thread has been stalled for
+   * @param samples the stacks sampled while the thread was stalled, top frame first
+   * @return the stall
+   */
+  static FxThreadStall aggregate(Duration duration, List<StackTraceElement[]> samples) {
+    Map<List<StackTraceElement>, Integer> stacks = new HashMap<>();
+    Map<StackTraceElement, Integer> frames = new LinkedHashMap<>();
+    for (StackTraceElement[] sample : samples) {
+      stacks.merge(Arrays.asList(sample), 1, Integer::sum);
+      frames.merge(hotFrameOf(sample), 1, Integer::sum);
+    }
+    List<Entry<StackTraceElement, Integer>> ranked = new ArrayList<>(frames.entrySet());
+    ranked.sort(Entry.<StackTraceElement, Integer>comparingByValue().reversed());
+    List<HotFrame> hotFrames = new ArrayList<>();
+    for (Entry<StackTraceElement, Integer> entry : ranked) {
+      if (hotFrames.size() == MAX_HOT_FRAMES) {
+        break;
+      }
+      hotFrames.add(new HotFrame(entry.getKey(), entry.getValue()));
+    }
+    List<StackTraceElement> stackTrace =
+        stacks.entrySet().stream()
+            .max(Entry.comparingByValue())
+            .map(Entry::getKey)
+            .orElse(Collections.emptyList());
+    return new FxThreadStall(
+        duration, samples.size(), stacks.size(), hotFrames, new ArrayList<>(stackTrace));
+  }
+
+  private static StackTraceElement hotFrameOf(StackTraceElement[] sample) {
+    for (StackTraceElement frame : sample) {
+      if (!isPlatformFrame(frame)) {
+        return frame;
+      }
+    }
+    return sample[0];
+  }
+
+  private static boolean isPlatformFrame(StackTraceElement frame) {
+    for (String prefix : PLATFORM_PACKAGES) {
+      if (frame.getClassName().startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the time the application thread has been stalled for.
+   *
+   * @return the duration of the stall
+   */
+  public Duration getDuration() {
+    return duration;
+  }
+
+  /**
+   * Returns the number of stack samples taken while the application thread was stalled.
+   *
+   * @return the number of samples
+   */
+  public int getSampleCount() {
+    return sampleCount;
+  }
+
+  /**
+   * Returns the number of distinct stacks among the samples.
+   *
+   * @return the number of distinct stacks
+   */
+  public int getDistinctStackCount() {
+    return distinctStackCount;
+  }
+
+  /**
+   * Returns the hot frames of the samples, ordered by descending sample count. At most {@value
+   * #MAX_HOT_FRAMES} frames are returned.
+   *
+   * @return an unmodifiable list of the hot frames, empty if no samples have been taken
+   */
+  public List<HotFrame> getHotFrames() {
+    return hotFrames;
+  }
+
+  /**
+   * Returns the most frequently sampled stack of the application thread.
+   *
+   * @return an unmodifiable list of the frames of the stack, top frame first, empty if no samples
+   *     have been taken
+   */
+  public List<StackTraceElement> getStackTrace() {
+    return stackTrace;
+  }
+
+  /**
+   * Returns the hot frame with the most samples, which can be used to tell stalls caused by
+   * different code apart.
+   *
+   * @return the first hot frame, or {@code null} if no samples have been taken
+   */
+  public StackTraceElement getSignature() {
+    return hotFrames.isEmpty() ? null : hotFrames.get(0).getFrame();
+  }
+
+  /**
+   * Returns a multi-line, human-readable report of this stall.
+   *
+   * @return the report
+   */
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    report
+        .append("JavaFX application thread stalled for ")
+        .append(duration.toMillis())
+        .append(" ms (")
+        .append(sampleCount)
+        .append(" samples, ")
+        .append(distinctStackCount)
+        .append(" distinct stacks)");
+    for (HotFrame hotFrame : hotFrames) {
+      report.append(System.lineSeparator()).append("  ").append(hotFrame);
+    }
+    return report.toString();
+  }
+
+  /**
+   * A hot frame of the application thread's stack, along with the number of samples attributed to
+   * it.
+   *
+   * @author Benedikt Full
+   */
+  public static final class HotFrame {
+
+    private final StackTraceElement frame;
+    private final int sampleCount;
+
+    HotFrame(StackTraceElement frame, int sampleCount) {
+      this.frame = frame;
+      this.sampleCount = sampleCount;
+    }
+
+    /**
+     * Returns the stack frame.
+     *
+     * @return the frame
+     */
+    public StackTraceElement getFrame() {
+      return frame;
+    }
+
+    /**
+     * Returns the number of samples attributed to the frame.
+     *
+     * @return the number of samples
+     */
+    public int getSampleCount() {
+      return sampleCount;
+    }
+
+    @Override
+    public String toString() {
+      return sampleCount + " samples: " + frame;
+    }
+  }
+}
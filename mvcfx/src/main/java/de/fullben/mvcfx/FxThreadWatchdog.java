@@ -0,0 +1,248 @@
+package de.fullben.mvcfx;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javafx.application.Platform;
+
+/**
+ * Detects stalls of the JavaFX application thread, e.g. caused by blocking I/O performed by an
+ * event handler, and reports where the thread spent its time while it was stalled.
+ *
+ * <p>The watchdog posts a heartbeat to the application thread every half threshold. If a heartbeat
+ * has not been processed within the threshold of the watchdog, the application thread is considered
+ * stalled, and its stack is sampled at the shorter sample interval until the heartbeat has been
+ * processed. The samples are then aggregated into an {@link FxThreadStall}, which is logged and
+ * handed to the registered listeners. Stalls with a previously reported signature are logged on a
+ * single line along with the number of times they have occurred, so that recurring stalls do not
+ * flood the log.
+ *
+ * <pre>
+ *   FxThreadWatchdog watchdog = new FxThreadWatchdog(Duration.ofMillis(200));
+ *   watchdog.addListener(stall -&gt; ...);
+ *   watchdog.start();
+ * </pre>
+ *
+ * <p>The watchdog is meant for development and diagnostics, and should only be started on demand.
+ * Its overhead consists of one heartbeat per half threshold, plus the sampling of the application
+ * thread's stack while it is stalled.
+ *
+ * @see FxThreadStall
+ * @author Benedikt Full
+ */
+public final class FxThreadWatchdog {
+
+  private static final Logger LOG = Logger.getLogger(FxThreadWatchdog.class.getName());
+  private static final Duration DEFAULT_SAMPLE_INTERVAL = Duration.ofMillis(10);
+  private final long thresholdNanos;
+  private final long heartbeatIntervalMillis;
+  private final long sampleIntervalNanos;
+  private final List<StallListener> listeners;
+  private final Map<StackTraceElement, Integer> occurrences;
+  private volatile Thread fxThread;
+  private Thread thread;
+
+  /**
+   * Creates a new watchdog with the given threshold, which samples the stack of the application
+   * thread every 10 milliseconds while it is stalled.
+   *
+   * @param threshold the time after which the application thread is considered stalled, must be
+   *     positive
+   * @throws IllegalArgumentException if the threshold is not positive
+   */
+  public FxThreadWatchdog(Duration threshold) {
+    this(threshold, DEFAULT_SAMPLE_INTERVAL);
+  }
+
+  /**
+   * Creates a new watchdog with the given threshold and sample interval.
+   *
+   * @param threshold the time after which the application thread is considered stalled, must be
+   *     positive
+   * @param sampleInterval the interval at which the stack of the application thread is sampled
+   *     while it is stalled, must be at least one millisecond and shorter than the threshold
+   * @throws IllegalArgumentException if the threshold or the sample interval are invalid
+   */
+  public FxThreadWatchdog(Duration threshold, Duration sampleInterval) {
+    requireNonNull(threshold, "Threshold must not be null");
+    requireNonNull(sampleInterval, "Sample interval must not be null");
+    if (sampleInterval.toMillis() < 1) {
+      throw new IllegalArgumentException("Sample interval must be at least one millisecond");
+    }
+    if (threshold.compareTo(sampleInterval) <= 0) {
+      throw new IllegalArgumentException("Threshold must be longer than the sample interval");
+    }
+    thresholdNanos = threshold.toNanos();
+    heartbeatIntervalMillis = Math.max(1, threshold.toMillis() / 2);
+    sampleIntervalNanos = sampleInterval.toNanos();
+    listeners = new CopyOnWriteArrayList<>();
+    occurrences = new ConcurrentHashMap<>();
+    fxThread = null;
+    thread = null;
+  }
+
+  /**
+   * Adds a listener which is notified of every detected stall. Listeners are called on the thread
+   * of the watchdog, not on the JavaFX application thread.
+   *
+   * @param listener the listener to be added, must not be {@code null}
+   */
+  public void addListener(StallListener listener) {
+    listeners.add(requireNonNull(listener, "Listener must not be null"));
+  }
+
+  /**
+   * Removes the given listener from this watchdog.
+   *
+   * @param listener the listener to be removed
+   * @return {@code true} if the listener has been removed, {@code false} if it was not registered
+   */
+  public boolean removeListener(StallListener listener) {
+    return listeners.remove(listener);
+  }
+
+  /**
+   * Starts watching the JavaFX application thread on a daemon thread. Heartbeats are only posted
+   * once the JavaFX toolkit has been initialized.
+   *
+   * @throws IllegalStateException if the watchdog is running already
+   */
+  public synchronized void start() {
+    if (thread != null) {
+      throw new IllegalStateException("Watchdog is running already");
+    }
+    thread = new Thread(this::watch, "mvcfx-fx-thread-watchdog");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /** Stops watching the JavaFX application thread. Does nothing if the watchdog is not running. */
+  public synchronized void stop() {
+    if (thread == null) {
+      return;
+    }
+    thread.interrupt();
+    thread = null;
+  }
+
+  /**
+   * Returns whether the watchdog is running.
+   *
+   * @return {@code true} if the watchdog has been started and not been stopped since
+   */
+  public synchronized boolean isRunning() {
+    return thread != null;
+  }
+
+  private void watch() {
+    List<StackTraceElement[]> samples = new ArrayList<>();
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        Heartbeat heartbeat = postHeartbeat();
+        if (heartbeat != null && !heartbeat.await(thresholdNanos)) {
+          // Stalled, the stack is sampled until the heartbeat has been processed
+          do {
+            Thread sampled = fxThread;
+            StackTraceElement[] sample = sampled != null ? sampled.getStackTrace() : null;
+            if (sample != null && sample.length > 0) {
+              samples.add(sample);
+            }
+          } while (!heartbeat.await(sampleIntervalNanos));
+          if (!samples.isEmpty()) {
+            Duration duration = Duration.ofNanos(heartbeat.processedAt - heartbeat.postedAt);
+            report(FxThreadStall.aggregate(duration, samples));
+            samples.clear();
+          }
+        }
+        Thread.sleep(heartbeatIntervalMillis);
+      }
+    } catch (InterruptedException e) {
+      // Stopped
+    }
+  }
+
+  private Heartbeat postHeartbeat() {
+    Heartbeat heartbeat = new Heartbeat();
+    try {
+      Platform.runLater(heartbeat);
+    } catch (IllegalStateException e) {
+      // Toolkit not initialized yet, try again with the next heartbeat
+      return null;
+    }
+    return heartbeat;
+  }
+
+  private void report(FxThreadStall stall) {
+    StackTraceElement signature = stall.getSignature();
+    int count = occurrences.merge(signature, 1, Integer::sum);
+    if (count == 1) {
+      LOG.warning(stall.toString());
+    } else {
+      LOG.warning(
+          "JavaFX application thread stalled for "
+              + stall.getDuration().toMillis()
+              + " ms at "
+              + signature
+              + " (occurrence "
+              + count
+              + ")");
+    }
+    for (StallListener listener : listeners) {
+      try {
+        listener.stallDetected(stall);
+      } catch (RuntimeException e) {
+        LOG.log(Level.WARNING, "Stall listener failed", e);
+      }
+    }
+  }
+
+  /**
+   * Listens for stalls of the JavaFX application thread detected by an {@link FxThreadWatchdog}.
+   *
+   * @author Benedikt Full
+   */
+  @FunctionalInterface
+  public interface StallListener {
+
+    /**
+     * Called once the application thread has recovered from a stall.
+     *
+     * @param stall the stall, never {@code null}
+     */
+    void stallDetected(FxThreadStall stall);
+  }
+
+  private final class Heartbeat implements Runnable {
+
+    private final long postedAt;
+    private final CountDownLatch processed;
+    private long processedAt;
+
+    private Heartbeat() {
+      postedAt = System.nanoTime();
+      processed = new CountDownLatch(1);
+    }
+
+    @Override
+    public void run() {
+      fxThread = Thread.currentThread();
+      processedAt = System.nanoTime();
+      // Publishes the time of processing to the watchdog thread
+      processed.countDown();
+    }
+
+    /** Waits for the given time, returns whether the heartbeat has been processed by then. */
+    private boolean await(long timeoutNanos) throws InterruptedException {
+      return processed.await(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package de.fullben.mvcfx;
+
+import javafx.event.Event;
+import javafx.event.EventHandler;
+
+/**
+ * An {@code FxmlInjector} wires the elements of a view built from a {@link CompiledFxml} into the
+ * view with plain Java code, replacing the reflective field and handler method lookups otherwise
+ * performed for each loaded view instance. Implementations are generated at compile time by the
+ * {@code FxmlInjectorProcessor} of the {@code mvcfx-compiler} artifact and are not meant to be
+ * written by hand.
+ *
+ * <p>An injector is used if a class implementing this interface, with the name of the view class
+ * followed by {@link #CLASS_NAME_SUFFIX}, can be found in the package of the view (e.g. {@code
+ * MainViewInjector} for a view named {@code MainView}). As the generated code accesses the members
+ * of the view directly, injectors can only be generated for views whose injectable fields and
+ * handler methods are not {@code private}.
+ *
+ * @see CompiledFxml
+ * @param <V> the type of the view
+ * @author Benedikt Full
+ */
+public interface FxmlInjector<V> {
+
+  /** The suffix appended to the name of a view class to obtain the name of its injector. */
+  String CLASS_NAME_SUFFIX = "Injector";
+
+  /**
+   * Assigns the given element to the field of the given view named like the given {@code fx:id}.
+   * Has no effect if the view does not have an injectable field with that name.
+   *
+   * @param view the view to be injected
+   * @param id the {@code fx:id} of the element
+   * @param element the element
+   */
+  void inject(V view, String id, Object element);
+
+  /**
+   * Returns an event handler which calls the handler method with the given name on the given view.
+   *
+   * @param view the view hosting the handler method
+   * @param methodName the name of the handler method
+   * @param <T> the type of the handled event
+   * @return the event handler or {@code null} if the view has no handler method with that name
+   */
+  <T extends Event> EventHandler<T> handler(V view, String methodName);
+
+  /**
+   * Calls the {@code initialize()} method of the given view, if it has one.
+   *
+   * @param view the view to be initialized
+   */
+  void initialize(V view);
+}
@@ -0,0 +1,142 @@
+package de.fullben.mvcfx;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Resolves and caches the locations of the {@code fxml} files of {@link FxmlView}s.
+ *
+ * <p>The location of the file of a view class is only resolved once, after which it is cached for
+ * the lifetime of the class. This also applies to views without a file. To speed up the initial
+ * resolution, the contents of the views resource directories ({@link FxmlView#FXML_DIR}) visible to
+ * a class loader are indexed the first time a view of that class loader is loaded. Views whose file
+ * is not part of the index (e.g. because it is located in the package of the view class, or the
+ * directory is hosted in an unsupported location) are resolved by regular resource lookups.
+ *
+ * @author Benedikt Full
+ */
+final class FxmlResources {
+
+  private static final ClassValue<URL> RESOURCES =
+      new ClassValue<>() {
+        @Override
+        protected URL computeValue(Class<?> viewType) {
+          return locate(viewType);
+        }
+      };
+  private static final Map<ClassLoader, Map<String, URL>> INDEXES =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private FxmlResources() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Returns the location of the {@code fxml} file of the given view class.
+   *
+   * @param viewType the class of a view
+   * @return the location of the file
+   * @throws IllegalStateException if the view class has no {@code fxml} file
+   */
+  static URL find(Class<?> viewType) {
+    URL fxml = RESOURCES.get(viewType);
+    if (fxml == null) {
+      throw new IllegalStateException(
+          "Cannot find FXML view file with name: "
+              + viewType.getSimpleName()
+              + FxmlView.FXML_EXTENSION);
+    }
+    return fxml;
+  }
+
+  private static URL locate(Class<?> viewType) {
+    String filename = viewType.getSimpleName() + FxmlView.FXML_EXTENSION;
+    // Fxml file in fxml views directory
+    URL fxml = indexOf(viewType.getClassLoader()).get(filename);
+    if (fxml != null) {
+      return fxml;
+    }
+    fxml = viewType.getResource(FxmlView.FXML_DIR + filename);
+    if (fxml != null) {
+      return fxml;
+    }
+    // Fxml file in same package as views class
+    return viewType.getResource(
+        "/" + viewType.getName().replace(".", "/") + FxmlView.FXML_EXTENSION);
+  }
+
+  private static Map<String, URL> indexOf(ClassLoader classLoader) {
+    if (classLoader == null) {
+      return Collections.emptyMap();
+    }
+    synchronized (INDEXES) {
+      return INDEXES.computeIfAbsent(classLoader, FxmlResources::buildIndex);
+    }
+  }
+
+  private static Map<String, URL> buildIndex(ClassLoader classLoader) {
+    Map<String, URL> index = new HashMap<>();
+    String directoryName = FxmlView.FXML_DIR.substring(1, FxmlView.FXML_DIR.length() - 1);
+    try {
+      Enumeration<URL> directories = classLoader.getResources(directoryName);
+      while (directories.hasMoreElements()) {
+        URL directory = directories.nextElement();
+        if (directory.getProtocol().equals("file")) {
+          indexDirectory(directory, index);
+        } else if (directory.getProtocol().equals("jar")) {
+          indexJarDirectory(directory, directoryName, index);
+        }
+      }
+    } catch (IOException | URISyntaxException e) {
+      // An incomplete index only means that more files have to be resolved by resource lookups
+    }
+    return Collections.unmodifiableMap(index);
+  }
+
+  private static void indexDirectory(URL directory, Map<String, URL> index)
+      throws IOException, URISyntaxException {
+    Path path = Paths.get(directory.toURI());
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(path, "*" + FxmlView.FXML_EXTENSION)) {
+      for (Path file : files) {
+        String filename = file.getFileName().toString();
+        index.putIfAbsent(filename, resolve(directory, filename));
+      }
+    }
+  }
+
+  private static void indexJarDirectory(URL directory, String directoryName, Map<String, URL> index)
+      throws IOException {
+    JarFile jar = ((JarURLConnection) directory.openConnection()).getJarFile();
+    String prefix = directoryName + "/";
+    Enumeration<JarEntry> entries = jar.entries();
+    while (entries.hasMoreElements()) {
+      String name = entries.nextElement().getName();
+      if (name.startsWith(prefix)
+          && name.endsWith(FxmlView.FXML_EXTENSION)
+          && name.indexOf('/', prefix.length()) < 0) {
+        String filename = name.substring(prefix.length());
+        index.putIfAbsent(filename, resolve(directory, filename));
+      }
+    }
+  }
+
+  private static URL resolve(URL directory, String filename) throws MalformedURLException {
+    String base = directory.toExternalForm();
+    return new URL(base.endsWith("/") ? base + filename : base + "/" + filename);
+  }
+}
@@ -1,8 +1,12 @@
 package de.fullben.mvcfx;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ResourceBundle;
 import javafx.scene.Parent;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 /**
@@ -11,7 +15,13 @@ import javafx.stage.Stage;
  *
  * <p>In order to load the user interface and inject it into the view class, any implementing views
  * must call the {@link #load()} method. This method should always be called as the last operation
- * the constructor of any view.
+ * the constructor of any view. Alternatively, {@link #loadAsync()} may be used to load the view
+ * without blocking the JavaFX application thread, in which case the stage becomes available once
+ * the returned future has completed. Views whose stage is not shown right away may be created with
+ * a lazy {@link StageInitialization}, deferring the creation of the stage (and optionally the
+ * loading of the view) until the stage is first shown. Windows which are opened repeatedly should
+ * be shown again by calling {@link #show()} on the same view, which re-shows the existing stage
+ * after calling the {@link #refresh()} hook.
  *
  * <pre>
  * public class MyView extends FxmlStageView&lt;MyModel, MyController&gt; {
@@ -54,7 +64,10 @@ import javafx.stage.Stage;
 public abstract class FxmlStageView<ModelType, ControllerType extends Controller>
     extends FxmlView<ModelType, ControllerType> {
 
+  private final StageInitialization initialization;
   private Stage stage;
+  private boolean shownBefore;
+  private boolean loadRequested;
 
   /**
    * Creates a new stage view with the given resources. Callers of this constructor must also call
@@ -65,7 +78,25 @@ public abstract class FxmlStageView<ModelType, ControllerType extends Controller
    * @param resources the resource bundle to be utilized by this view
    */
   public FxmlStageView(ModelType model, ControllerType controller, ResourceBundle resources) {
-    this(model, true, controller, resources);
+    this(model, true, controller, resources, StageInitialization.EAGER);
+  }
+
+  /**
+   * Creates a new stage view with the given resources, whose root element and stage are
+   * initialized as defined by the given initialization mode. Callers of this constructor must also
+   * call {@link #load()}.
+   *
+   * @param model the model associated with this view
+   * @param controller the controller of this view
+   * @param resources the resource bundle to be utilized by this view
+   * @param initialization defines when the root element and the stage of the view are initialized
+   */
+  protected FxmlStageView(
+      ModelType model,
+      ControllerType controller,
+      ResourceBundle resources,
+      StageInitialization initialization) {
+    this(model, true, controller, resources, initialization);
   }
 
   /**
@@ -77,11 +108,19 @@ public abstract class FxmlStageView<ModelType, ControllerType extends Controller
    *     {@code false} if an actual object is required
    * @param controller the controller of this view
    * @param resources the resource bundle to be utilized by this view
+   * @param initialization defines when the root element and the stage of the view are initialized
    */
   FxmlStageView(
-      ModelType model, boolean nonNullModel, ControllerType controller, ResourceBundle resources) {
+      ModelType model,
+      boolean nonNullModel,
+      ControllerType controller,
+      ResourceBundle resources,
+      StageInitialization initialization) {
     super(model, nonNullModel, controller, resources);
+    this.initialization = requireNonNull(initialization);
     stage = null;
+    shownBefore = false;
+    loadRequested = false;
   }
 
   /**
@@ -101,8 +140,8 @@ public abstract class FxmlStageView<ModelType, ControllerType extends Controller
    * </pre>
    *
    * <p>This method is called automatically after the view associated with this class has been
-   * loaded from the corresponding {@code fxml} file, with the return value of {@link #initRoot()}
-   * as parameter.
+   * loaded from the corresponding {@code fxml} file (or when the stage is first needed, if the view
+   * is initialized lazily), with the root of the view as parameter.
    *
    * @param root the root of the view loaded from {@code fxml}
    * @return the window hosting the user interface elements represented by this view, must not be
@@ -125,54 +164,189 @@ public abstract class FxmlStageView<ModelType, ControllerType extends Controller
    *   <li>and is owned by one of the currently visible windows.
    * </ul>
    *
+   * <p>If the view has been created with a lazy {@link StageInitialization}, the stage is only
+   * initialized when it is first needed. In case of {@link StageInitialization#LAZY}, this also
+   * applies to loading the view from the {@code fxml} file.
+   *
    * @throws IOException if an error is encountered while attempting to read from the view file
    * @throws IllegalStateException if the method is called more than once during the object's life
    *     cycle
    */
   @Override
   protected final void load() throws IOException {
-    Parent root = loadFxml();
+    if (initialization == StageInitialization.LAZY) {
+      if (loadRequested) {
+        throw new IllegalStateException("Cannot load view, has been loaded already");
+      }
+      loadRequested = true;
+      return;
+    }
+    attach(loadFxml());
+  }
+
+  /**
+   * Makes the given node hierarchy the root of this view. Unless the view is initialized lazily,
+   * this is followed by initializing the stage of the view as defined by {@link
+   * #initStage(Parent)}, and registering the view with the application's {@link ViewManager}. As
+   * this involves creating the stage, the method must be called on the JavaFX application thread,
+   * which is ensured by both {@link #load()} and {@link #loadAsync()}.
+   *
+   * @param root the root element loaded from the {@code fxml} file of the view
+   */
+  @Override
+  final void attach(Parent root) {
     setRoot(root);
-    stage = ViewManager.primeStage(initStage(root), root);
-    ViewManager.get().register(this);
+    loadRequested = true;
+    if (initialization == StageInitialization.EAGER) {
+      initializeStage();
+    }
+  }
+
+  /**
+   * Returns the root node of the view. If the view has been created with {@link
+   * StageInitialization#LAZY}, calling this method loads the view, unless this has happened
+   * already.
+   *
+   * @return the root element of the view
+   * @throws IllegalStateException if this is method is called before {@link #load()} has been
+   *     called
+   * @throws UncheckedIOException if the view is loaded by this method and an error is encountered
+   *     while attempting to read from the view file
+   */
+  @Override
+  protected Parent getRoot() {
+    initializeRoot();
+    return super.getRoot();
   }
 
   /**
-   * Returns the window initialized by {@link #initStage(Parent)}.
+   * Returns the scene of the stage of the view. If the stage has not been initialized yet, it is
+   * initialized by calling this method.
+   *
+   * @return the scene hosting the root node
+   * @throws IllegalStateException if the method is called before {@link #load()} has been called
+   * @throws UncheckedIOException if the view is loaded by this method and an error is encountered
+   *     while attempting to read from the view file
+   */
+  @Override
+  protected Scene getScene() {
+    return initializeStage().getScene();
+  }
+
+  /**
+   * Returns the window initialized by {@link #initStage(Parent)}. If the stage has not been
+   * initialized yet, it is initialized by calling this method.
    *
    * @return the {@code Stage} represented by this view
-   * @throws IllegalStateException if the method is called before the stage has been initialized
+   * @throws IllegalStateException if the method is called before {@link #load()} has been called
+   * @throws UncheckedIOException if the view is loaded by this method and an error is encountered
+   *     while attempting to read from the view file
    */
   @Override
   protected Stage getWindow() {
-    assertStageLoaded();
-    return stage;
+    return initializeStage();
   }
 
   /**
-   * Shows the stage of this view.
+   * Returns the mode defining when the root element and the stage of this view are initialized.
    *
-   * @throws IllegalStateException if the method is called before the stage has been initialized
+   * @return the initialization mode, never {@code null}
+   */
+  public final StageInitialization getInitialization() {
+    return initialization;
+  }
+
+  /**
+   * Shows the stage of this view, initializing it first if necessary. If the stage is already
+   * showing, it is brought to the front instead. If the stage is shown again after having been
+   * hidden, {@link #refresh()} is called before it is shown.
+   *
+   * @throws IllegalStateException if the method is called before {@link #load()} has been called
+   * @throws UncheckedIOException if the view is loaded by this method and an error is encountered
+   *     while attempting to read from the view file
    * @see #hide()
    */
   public final void show() {
-    assertStageLoaded();
+    Stage stage = initializeStage();
+    if (stage.isShowing()) {
+      stage.toFront();
+      return;
+    }
+    if (shownBefore) {
+      refresh();
+    }
+    shownBefore = true;
     stage.show();
   }
 
   /**
-   * Hides the stage of this view.
+   * Returns whether the stage of this view is currently showing.
+   *
+   * @return {@code true} if the stage has been initialized and is showing, {@code false} otherwise
+   */
+  public final boolean isShowing() {
+    return stage != null && stage.isShowing();
+  }
+
+  /**
+   * Called by {@link #show()} right before the stage of this view is shown again after having been
+   * hidden. Does nothing by default.
+   *
+   * <p>Windows which are opened repeatedly can be kept and re-shown by calling {@code show()} on
+   * the same view instance, instead of creating a new view (and thus stage) each time. Such views
+   * may override this method to bring their user interface components up to date with their model.
+   */
+  protected void refresh() {}
+
+  /**
+   * Hides the stage of this view. Has no effect if the stage has not been initialized yet.
    *
-   * @throws IllegalStateException if the method is called before the stage has been initialized
+   * @throws IllegalStateException if the method is called before {@link #load()} has been called
    * @see #show()
    */
   public final void hide() {
-    assertStageLoaded();
-    stage.hide();
+    assertLoadRequested();
+    if (stage != null) {
+      stage.hide();
+    }
+  }
+
+  private void initializeRoot() {
+    assertLoadRequested();
+    if (isLoaded()) {
+      return;
+    }
+    try {
+      setRoot(loadFxml());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to load view", e);
+    }
   }
 
-  private void assertStageLoaded() {
+  @Override
+  final void releaseWindow() {
+    if (stage != null) {
+      stage.hide();
+      stage = null;
+    }
+  }
+
+  private Stage initializeStage() {
+    if (isDisposed()) {
+      throw new IllegalStateException("View has been disposed");
+    }
     if (stage == null) {
+      Parent root = getRoot();
+      try (StartupTrace.Span span = StartupTrace.span("Create stage of", getClass())) {
+        stage = ViewManager.primeStage(initStage(root), root);
+        ViewManager.get().register(this);
+      }
+    }
+    return stage;
+  }
+
+  private void assertLoadRequested() {
+    if (!loadRequested) {
       throw new IllegalStateException(
           "Stage has not been loaded yet (Did you call load() in your view constructor?)");
     }
@@ -3,6 +3,11 @@ package de.fullben.mvcfx;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -51,6 +56,17 @@ import javafx.stage.Window;
  * ({@link #FXML_DIR}) or in the same package as the view class. The name of the file must be equal
  * to the simple class name of the view class.
  *
+ * <p>If the {@code fxml} file of a view has been compiled to Java code at build time (see {@link
+ * CompiledFxml}), the compiled form is used instead of the file.
+ *
+ * <p>Views with a large node hierarchy may be loaded by calling {@link #loadAsync()} instead of
+ * {@code load()}. This moves the parsing of the {@code fxml} file and the construction of the node
+ * hierarchy to a worker thread, so that the JavaFX application thread is not blocked in the
+ * meantime.
+ *
+ * <p>To prepare views before they are needed, e.g. during application startup, use a {@link
+ * ViewPreloader}.
+ *
  * @see View
  * @see StageView
  * @see FxmlStageView
@@ -61,8 +77,15 @@ import javafx.stage.Window;
 public abstract class FxmlView<ModelType, ControllerType extends Controller>
     extends View<ModelType, ControllerType> {
 
-  private static final String FXML_DIR = "/views/";
-  private static final String FXML_EXTENSION = ".fxml";
+  static final String FXML_DIR = "/views/";
+  static final String FXML_EXTENSION = ".fxml";
+  static final ExecutorService LOAD_EXECUTOR =
+      Executors.newCachedThreadPool(
+          runnable -> {
+            Thread thread = new Thread(runnable, "mvcfx-view-loader");
+            thread.setDaemon(true);
+            return thread;
+          });
 
   /**
    * Creates a new view with the given resources. Users of this constructor must ensure that {@link
@@ -113,13 +136,56 @@ public abstract class FxmlView<ModelType, ControllerType extends Controller>
    *     cycle
    */
   protected void load() throws IOException {
-    setRoot(loadFxml());
+    attach(loadFxml());
+  }
+
+  /**
+   * Loads the view from the {@code fxml} file on a worker thread and injects all relevant member
+   * fields, before registering the view with the application's {@link ViewManager} on the JavaFX
+   * application thread.
+   *
+   * <p>This method may be called instead of {@link #load()}, either by the constructor of an
+   * extending class or by the controller of the view. The view must not be used before the
+   * returned future has completed. Note that as the {@code initialize()} method of the view is
+   * called on the worker thread as well, it must not access any user interface components which
+   * are already part of a visible scene. Controls that must be created on the JavaFX application
+   * thread (e.g. a {@code WebView}) cannot be loaded asynchronously.
+   *
+   * @return a future which completes on the JavaFX application thread once the view has been
+   *     loaded and registered, or completes exceptionally with the error encountered while loading
+   *     the view (e.g. an {@link IOException} if the view file cannot be read)
+   */
+  public final CompletableFuture<Void> loadAsync() {
+    return CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return loadFxml();
+              } catch (IOException e) {
+                throw new CompletionException(e);
+              }
+            },
+            LOAD_EXECUTOR)
+        .thenAcceptAsync(this::attach, Platform::runLater);
+  }
+
+  /**
+   * Makes the given node hierarchy the root of this view and registers the view with the
+   * application's {@link ViewManager}. Must be called on the JavaFX application thread.
+   *
+   * @param root the root element loaded from the {@code fxml} file of the view
+   */
+  void attach(Parent root) {
+    setRoot(root);
     ViewManager.get().register(this);
   }
 
   /**
    * Loads the view from the {@code fxml} file and injects all relevant member fields.
    *
+   * <p>If the {@code fxml} file of the view has been compiled at build time, the view is built by
+   * its {@link CompiledFxml} instead of parsing the file. If the node hierarchy of the view has
+   * been built in advance by a {@link ViewPreloader}, the prebuilt hierarchy is used.
+   *
    * @throws IOException if an error is encountered while attempting to read from the view file
    * @throws IllegalStateException if the method is called more than once during the object's life
    *     cycle
@@ -128,28 +194,42 @@ public abstract class FxmlView<ModelType, ControllerType extends Controller>
     if (super.getRoot() != null) {
       throw new IllegalStateException("Cannot load view, has been loaded already");
     }
+    FlightRecorderEvents.FxmlLoad event = new FlightRecorderEvents.FxmlLoad();
+    event.begin();
+    event.viewType = getClass();
+    Parent root;
+    try (StartupTrace.Span span = StartupTrace.span("Load", getClass())) {
+      root = loadFxml(event);
+    }
+    event.commit();
+    return root;
+  }
+
+  private Parent loadFxml(FlightRecorderEvents.FxmlLoad event) throws IOException {
+    PreloadedFxml preloaded = ViewPreloader.take(getClass(), getResources());
+    if (preloaded != null) {
+      event.source = FlightRecorderEvents.FxmlLoad.PRELOADED;
+      return CompiledFxmlLoader.load(preloaded, this, event);
+    }
+    CompiledFxml compiledFxml = CompiledFxmlLoader.compiledFxmlOf(getClass());
+    if (compiledFxml != null) {
+      event.source = FlightRecorderEvents.FxmlLoad.COMPILED;
+      return CompiledFxmlLoader.load(compiledFxml, this, event);
+    }
+    event.source = FlightRecorderEvents.FxmlLoad.FXML_LOADER;
     final FXMLLoader loader = new FXMLLoader();
     loader.setController(this);
     loader.setLocation(findFxmlResource());
     loader.setResources(getResources());
-    return loader.load();
+    long start = System.nanoTime();
+    Parent root = loader.load();
+    event.parseDuration = System.nanoTime() - start;
+    return root;
   }
 
   private URL findFxmlResource() {
-    // Fxml file in fxml views directory
-    String filename = FXML_DIR + getClass().getSimpleName() + FXML_EXTENSION;
-    URL fxml = getClass().getResource(filename);
-    if (fxml != null) {
-      return fxml;
-    }
-    // Fxml file in same package as views class
-    filename = "/" + getClass().getName().replace(".", "/") + FXML_EXTENSION;
-    fxml = getClass().getResource(filename);
-    if (fxml != null) {
-      return fxml;
-    }
-    throw new IllegalStateException(
-        "Cannot find FXML view file with name: " + getClass().getSimpleName() + FXML_EXTENSION);
+    // Resolved once per view class, subsequent lookups are served from the cache
+    return FxmlResources.find(getClass());
   }
 
   /**
@@ -0,0 +1,86 @@
+package de.fullben.mvcfx;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Locale.Category;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formats the message patterns of resource bundles with compiled {@link MessageFormat}s, which are
+ * cached per bundle and key. Calling {@link MessageFormat#format(String, Object...)} parses the
+ * pattern on every call, whereas the cached formats only parse a pattern once for every bundle (and
+ * thus locale) it is retrieved from.
+ *
+ * <p>Like {@link MessageFormat#format(String, Object...)}, the formats use the default locale for
+ * formatting (see {@link Category#FORMAT}). If the default locale changes, formats compiled for
+ * the previous locale are replaced the next time they are used. Bundles are referenced weakly, so
+ * caching the formats of a bundle does not keep it from being garbage collected.
+ *
+ * <p>The methods of this class may be called from any thread. As {@code MessageFormat} itself is
+ * not thread-safe, each cached format is only used by one thread at a time.
+ *
+ * @see View#getString(String, Object...)
+ * @author Benedikt Full
+ */
+public final class MessageFormats {
+
+  private static final Map<ResourceBundle, Map<String, MessageFormat>> FORMATS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private MessageFormats() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Returns the string identified by the given key of the given bundle after having inserted the
+   * given arguments. If there are no arguments, the string is returned as is.
+   *
+   * @param bundle the bundle containing the message pattern
+   * @param key the key of the message pattern
+   * @param arguments values for filling the placeholders in the message pattern
+   * @return the formatted message
+   * @throws NullPointerException if the given {@code bundle} or {@code key} is {@code null}
+   * @throws java.util.MissingResourceException if no string for the given key can be found
+   * @throws IllegalArgumentException if the message pattern is invalid, or if an argument cannot
+   *     be formatted by the format of its placeholder
+   */
+  public static String format(ResourceBundle bundle, String key, Object... arguments) {
+    requireNonNull(bundle);
+    requireNonNull(key);
+    if (arguments == null || arguments.length == 0) {
+      return bundle.getString(key);
+    }
+    MessageFormat format = get(bundle, key);
+    synchronized (format) {
+      return format.format(arguments);
+    }
+  }
+
+  /**
+   * Removes the cached formats of the given bundle, e.g. once it is known that the bundle will not
+   * be used anymore.
+   *
+   * @param bundle the bundle whose formats are to be removed
+   */
+  public static void evict(ResourceBundle bundle) {
+    FORMATS.remove(bundle);
+  }
+
+  private static MessageFormat get(ResourceBundle bundle, String key) {
+    Map<String, MessageFormat> formats =
+        FORMATS.computeIfAbsent(bundle, b -> new ConcurrentHashMap<>());
+    Locale locale = Locale.getDefault(Category.FORMAT);
+    MessageFormat format = formats.get(key);
+    if (format == null || !locale.equals(format.getLocale())) {
+      format = new MessageFormat(bundle.getString(key), locale);
+      formats.put(key, format);
+    }
+    return format;
+  }
+}
@@ -0,0 +1,140 @@
+package de.fullben.mvcfx;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.ResourceBundle;
+import javafx.beans.property.Property;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.scene.Parent;
+
+/**
+ * The node hierarchy of an {@link FxmlView}, built from the view's {@link CompiledFxml} before the
+ * view instance it belongs to exists.
+ *
+ * <p>As the view is not known while the nodes are built, event handlers are created as
+ * placeholders which are bound to the handler methods of the view once the hierarchy is handed over
+ * to it (see {@link #bind(CompiledFxml.Context)}). Until then, the elements with an {@code fx:id}
+ * are kept in a namespace of their own. Likewise, localized properties are recorded and handed over
+ * to the view, so that they follow the locale of the view.
+ *
+ * @see ViewPreloader
+ * @author Benedikt Full
+ */
+final class PreloadedFxml implements CompiledFxml.Context {
+
+  private final ResourceBundle resources;
+  private final Map<String, Object> namespace;
+  private final List<DeferredHandler<?>> handlers;
+  private final Map<Property<String>, String> localizedProperties;
+  private Parent root;
+
+  private PreloadedFxml(ResourceBundle resources) {
+    this.resources = resources;
+    namespace = new LinkedHashMap<>();
+    handlers = new ArrayList<>();
+    localizedProperties = new LinkedHashMap<>();
+    root = null;
+  }
+
+  /**
+   * Builds the node hierarchy described by the given compiled {@code fxml} with the given
+   * resources.
+   *
+   * @param compiledFxml the compiled form of the {@code fxml} file of a view
+   * @param resources the resources of the view the hierarchy is built for
+   * @return the prebuilt node hierarchy
+   */
+  static PreloadedFxml build(CompiledFxml compiledFxml, ResourceBundle resources) {
+    PreloadedFxml preloaded = new PreloadedFxml(resources);
+    preloaded.root = compiledFxml.build(preloaded);
+    return preloaded;
+  }
+
+  /**
+   * Returns the resources the node hierarchy has been built with.
+   *
+   * @return the resource bundle
+   */
+  ResourceBundle getResources() {
+    return resources;
+  }
+
+  /**
+   * Returns the root element of the node hierarchy.
+   *
+   * @return the root element
+   */
+  Parent getRoot() {
+    return root;
+  }
+
+  /**
+   * Binds the event handlers of the node hierarchy to the handlers provided by the given context
+   * and registers all elements with an {@code fx:id} and all localized properties with it.
+   *
+   * @param context the context of the view the node hierarchy is handed over to
+   */
+  void bind(CompiledFxml.Context context) {
+    for (DeferredHandler<?> handler : handlers) {
+      handler.bind(context);
+    }
+    for (Entry<String, Object> entry : namespace.entrySet()) {
+      context.register(entry.getKey(), entry.getValue());
+    }
+    for (Entry<Property<String>, String> entry : localizedProperties.entrySet()) {
+      context.localize(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public String getString(String key) {
+    return resources.getString(key);
+  }
+
+  @Override
+  public void localize(Property<String> property, String key) {
+    property.setValue(getString(key));
+    localizedProperties.put(property, key);
+  }
+
+  @Override
+  public void register(String id, Object element) {
+    namespace.put(id, element);
+  }
+
+  @Override
+  public <T extends Event> EventHandler<T> handler(String methodName) {
+    DeferredHandler<T> handler = new DeferredHandler<>(methodName);
+    handlers.add(handler);
+    return handler;
+  }
+
+  private static final class DeferredHandler<T extends Event> implements EventHandler<T> {
+
+    private final String methodName;
+    private volatile EventHandler<T> delegate;
+
+    private DeferredHandler(String methodName) {
+      this.methodName = methodName;
+      delegate = null;
+    }
+
+    private void bind(CompiledFxml.Context context) {
+      delegate = context.handler(methodName);
+    }
+
+    @Override
+    public void handle(T event) {
+      EventHandler<T> handler = delegate;
+      if (handler == null) {
+        throw new IllegalStateException(
+            "Event handler " + methodName + " has not been bound to a view yet");
+      }
+      handler.handle(event);
+    }
+  }
+}
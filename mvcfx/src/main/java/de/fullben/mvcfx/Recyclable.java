@@ -0,0 +1,28 @@
+package de.fullben.mvcfx;
+
+/**
+ * Marker interface for views which can be reused for different models, and may therefore be kept
+ * in a {@link ViewPool}.
+ *
+ * <p>By implementing this interface, a view declares that all of its state which depends on its
+ * model or controller is established in {@link View#bindModel()}, using the tracking methods of the
+ * {@link View} class (e.g. {@link View#bindBidirectional(javafx.beans.property.Property,
+ * javafx.beans.property.Property) bindBidirectional(...)}). Everything else, such as the node
+ * hierarchy and any listeners between the view's own components, is kept when the view is rebound
+ * to another model.
+ *
+ * <pre>
+ *   public class ItemView extends FxmlView&lt;ItemModel, ItemController&gt; implements Recyclable {
+ *     &#064;FXML private TextField tfName;
+ *     ...
+ *     &#064;Override
+ *     protected void bindModel() {
+ *       bindBidirectional(tfName.textProperty(), getModel().nameProperty());
+ *     }
+ *   }
+ * </pre>
+ *
+ * @see ViewPool
+ * @author Benedikt Full
+ */
+public interface Recyclable {}
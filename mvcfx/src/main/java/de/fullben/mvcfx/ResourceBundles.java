@@ -0,0 +1,112 @@
+package de.fullben.mvcfx;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.ResourceBundle.Control;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads resource bundles, preferring bundles which have been compiled to classes by the {@code
+ * BundleCompiler} of the {@code mvcfx-compiler} artifact over {@code properties} files.
+ *
+ * <p>{@link ResourceBundle#getBundle(String)} searches for a class and a {@code properties} file
+ * for every candidate locale of a bundle, and parses the files it finds. This class first restricts
+ * the search to classes, so applications shipping compiled bundles neither scan the class path for
+ * {@code properties} files nor parse them at startup. Only if no compiled bundle can be found, the
+ * regular lookup is performed, so applications without compiled bundles are not affected.
+ * Bundles are cached per class loader, base name, locale, and default locale (which the lookup
+ * falls back to), so repeated calls return the same bundle instance without searching again. The
+ * cache only holds weak references to the bundles, as bundles and their classes refer to their
+ * class loader, which could otherwise never be collected.
+ *
+ * <pre>
+ *   ResourceBundle resources = ResourceBundles.getBundle("messages", Locale.getDefault());
+ * </pre>
+ *
+ * @author Benedikt Full
+ */
+public final class ResourceBundles {
+
+  private static final Control COMPILED = new CompiledControl();
+  private static final Map<ClassLoader, Map<String, Reference<ResourceBundle>>> BUNDLES =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private ResourceBundles() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Returns the bundle with the given base name for the given locale, loaded by the class loader of
+   * this library.
+   *
+   * @param baseName the base name of the bundle family, e.g. {@code messages}
+   * @param locale the locale of the bundle
+   * @return the bundle
+   * @throws MissingResourceException if no bundle for the base name can be found
+   * @see #getBundle(String, Locale, ClassLoader)
+   */
+  public static ResourceBundle getBundle(String baseName, Locale locale) {
+    return getBundle(baseName, locale, ResourceBundles.class.getClassLoader());
+  }
+
+  /**
+   * Returns the bundle with the given base name for the given locale, loaded by the given class
+   * loader. Compiled bundles are used if available, {@code properties} files otherwise.
+   *
+   * @param baseName the base name of the bundle family, e.g. {@code messages}
+   * @param locale the locale of the bundle
+   * @param loader the class loader to load the bundle with
+   * @return the bundle
+   * @throws MissingResourceException if no bundle for the base name can be found
+   */
+  public static ResourceBundle getBundle(String baseName, Locale locale, ClassLoader loader) {
+    requireNonNull(baseName);
+    requireNonNull(locale);
+    requireNonNull(loader);
+    Map<String, Reference<ResourceBundle>> bundles =
+        BUNDLES.computeIfAbsent(loader, l -> new ConcurrentHashMap<>());
+    String key =
+        baseName + '_' + locale.toLanguageTag() + '_' + Locale.getDefault().toLanguageTag();
+    Reference<ResourceBundle> reference = bundles.get(key);
+    ResourceBundle bundle = reference != null ? reference.get() : null;
+    if (bundle != null) {
+      return bundle;
+    }
+    try {
+      bundle = ResourceBundle.getBundle(baseName, locale, loader, COMPILED);
+    } catch (MissingResourceException e) {
+      bundle = ResourceBundle.getBundle(baseName, locale, loader);
+    }
+    bundles.put(key, new WeakReference<>(bundle));
+    return bundle;
+  }
+
+  /**
+   * Restricts the bundle lookup to classes. Results are not kept in the cache of {@link
+   * ResourceBundle}, as it does not distinguish between controls: a bundle found missing by this
+   * control would otherwise be reported missing by the regular lookup as well.
+   *
+   * @author Benedikt Full
+   */
+  private static final class CompiledControl extends Control {
+
+    @Override
+    public List<String> getFormats(String baseName) {
+      return FORMAT_CLASS;
+    }
+
+    @Override
+    public long getTimeToLive(String baseName, Locale locale) {
+      return TTL_DONT_CACHE;
+    }
+  }
+}
@@ -28,7 +28,9 @@ public final class ScopeManager {
   private final ScopeObserverRegistry registry;
 
   private ScopeManager() {
-    registry = new ScopeObserverRegistry();
+    try (StartupTrace.Span span = StartupTrace.span("ScopeManager initialization")) {
+      registry = new ScopeObserverRegistry();
+    }
   }
 
   static ScopeManager getInstance() {
@@ -47,21 +49,31 @@ public final class ScopeManager {
     if (observers == null) {
       return;
     }
+    FlightRecorderEvents.ScopePublish event = new FlightRecorderEvents.ScopePublish();
+    event.begin();
+    if (event.isEnabled()) {
+      Collection<BiConsumer<String, Object[]>> subscribers = observers.get(messageName);
+      event.scopeType = scope.getClass();
+      event.message = messageName;
+      event.subscriberCount = subscribers == null ? 0 : subscribers.size();
+    }
     if (isCurrentThreadFxApplicationThread()) {
-      publish(messageName, payload, observers);
+      publish(scope, messageName, payload, observers);
     } else {
       try {
-        Platform.runLater(() -> publish(messageName, payload, observers));
+        Platform.runLater(() -> publish(scope, messageName, payload, observers));
+        event.deferred = true;
       } catch (IllegalStateException e) {
         if (e.getMessage().equals("Toolkit not initialized")) {
           // This means we're probably in a test, so there is no FX toolkit and no need to run the
           // publishing on the JavaFX application thread
-          publish(messageName, payload, observers);
+          publish(scope, messageName, payload, observers);
         } else {
           throw e;
         }
       }
     }
+    event.commit();
   }
 
   boolean subscribe(Scope scope, String messageName, BiConsumer<String, Object[]> observer) {
@@ -101,13 +113,23 @@ public final class ScopeManager {
     return unsubscribed;
   }
 
-  private static void publish(String messageName, Object[] payload, ScopeObservers observers) {
+  private static void publish(
+      Scope scope, String messageName, Object[] payload, ScopeObservers observers) {
     final Collection<BiConsumer<String, Object[]>> subscribers = observers.get(messageName);
     if (subscribers == null || subscribers.isEmpty()) {
       return;
     }
     for (BiConsumer<String, Object[]> subscriber : subscribers) {
+      FlightRecorderEvents.ScopeDelivery event = new FlightRecorderEvents.ScopeDelivery();
+      event.begin();
       subscriber.accept(messageName, payload);
+      event.end();
+      if (event.shouldCommit()) {
+        event.scopeType = scope.getClass();
+        event.message = messageName;
+        event.subscriberType = subscriber.getClass();
+        event.commit();
+      }
     }
   }
 
@@ -0,0 +1,37 @@
+package de.fullben.mvcfx;
+
+/**
+ * Defines when the user interface components of a {@link StageView} or {@link FxmlStageView} are
+ * created.
+ *
+ * <p>Windows which are not shown right away (or possibly never) do not need to have their native
+ * window peer, scene, and theme allocated when the view is created. Using one of the lazy modes
+ * defers this work to the first call of {@code show()} (or to the first call of any method
+ * requiring the stage, such as {@code getWindow()}).
+ *
+ * @see StageView
+ * @see FxmlStageView
+ * @author Benedikt Full
+ */
+public enum StageInitialization {
+
+  /**
+   * The root element and the stage of the view are created when the view is created (or loaded, in
+   * case of an {@link FxmlStageView}). This is the default.
+   */
+  EAGER,
+
+  /**
+   * The root element of the view is created when the view is created (or loaded), while the stage
+   * is created, registered with the {@link ViewManager}, and has the current theme applied when it
+   * is first needed.
+   */
+  LAZY_STAGE,
+
+  /**
+   * Both the root element and the stage of the view are created when the stage is first needed. For
+   * an {@link FxmlStageView}, this means that the {@code fxml} file is not loaded (and thus no
+   * fields are injected) before then, even if {@link FxmlStageView#load()} has been called.
+   */
+  LAZY
+}
@@ -1,7 +1,10 @@
 package de.fullben.mvcfx;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ResourceBundle;
 import javafx.scene.Parent;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 /**
@@ -41,6 +44,12 @@ import javafx.stage.Stage;
  * This class is an extension of the {@link View} class that adds functionality for defining and
  * managing a user interface window which hosts the user interface nodes of this view.
  *
+ * <p>Views whose window is not shown right away may be created with a lazy {@link
+ * StageInitialization}, in which case the window (and optionally the root element) is only
+ * initialized once it is first shown. Windows which are opened repeatedly should be shown again by
+ * calling {@link #show()} on the same view, which re-shows the existing stage after calling the
+ * {@link #refresh()} hook.
+ *
  * @see View
  * @see FxmlView
  * @see FxmlStageView
@@ -51,7 +60,9 @@ import javafx.stage.Stage;
 public abstract class StageView<ModelType, ControllerType extends Controller>
     extends View<ModelType, ControllerType> {
 
-  private final Stage stage;
+  private final StageInitialization initialization;
+  private Stage stage;
+  private boolean shownBefore;
 
   /**
    * Creates a new view with the given resources and calls {@link #initStage(Parent)} to initialize
@@ -71,7 +82,26 @@ public abstract class StageView<ModelType, ControllerType extends Controller>
    * @param resources the resource bundle to be utilized by this view
    */
   public StageView(ModelType model, ControllerType controller, ResourceBundle resources) {
-    this(model, true, controller, resources);
+    this(model, true, controller, resources, StageInitialization.EAGER);
+  }
+
+  /**
+   * Creates a new view with the given resources, whose root element and window are initialized as
+   * defined by the given initialization mode. Once the window is initialized, it has the same
+   * properties as the window of a view created with {@link #StageView(Object, Controller,
+   * ResourceBundle)}, except that its owner is one of the windows visible at that time.
+   *
+   * @param model the model associated with this view
+   * @param controller the controller of this view
+   * @param resources the resource bundle to be utilized by this view
+   * @param initialization defines when the root element and the window of the view are initialized
+   */
+  protected StageView(
+      ModelType model,
+      ControllerType controller,
+      ResourceBundle resources,
+      StageInitialization initialization) {
+    this(model, true, controller, resources, initialization);
   }
 
   /**
@@ -83,18 +113,30 @@ public abstract class StageView<ModelType, ControllerType extends Controller>
    *     {@code false} if an actual object is required
    * @param controller the controller of this view
    * @param resources the resource bundle to be utilized by this view
+   * @param initialization defines when the root element and the window of the view are initialized
    */
   StageView(
-      ModelType model, boolean nonNullModel, ControllerType controller, ResourceBundle resources) {
-    super(model, nonNullModel, controller, resources, true);
-    stage = ViewManager.primeStage(initStage(getRoot()), getRoot());
-    ViewManager.get().register(this);
+      ModelType model,
+      boolean nonNullModel,
+      ControllerType controller,
+      ResourceBundle resources,
+      StageInitialization initialization) {
+    super(model, nonNullModel, controller, resources, false);
+    this.initialization = requireNonNull(initialization);
+    stage = null;
+    shownBefore = false;
+    if (initialization != StageInitialization.LAZY) {
+      initializeRoot();
+    }
+    if (initialization == StageInitialization.EAGER) {
+      initializeStage();
+    }
   }
 
   /**
    * Implementations must initialize the {@code Stage} which this view represents. This method is
-   * called automatically by the constructor of this class, with the return value of {@link
-   * #initRoot()} as parameter.
+   * called automatically by the constructor of this class (or when the stage is first needed, if
+   * the view is initialized lazily), with the return value of {@link #initRoot()} as parameter.
    *
    * <p>The following snippet shows an example implementation of this method which creates a simple
    * user interface that contains a button.
@@ -116,30 +158,124 @@ public abstract class StageView<ModelType, ControllerType extends Controller>
   protected abstract Stage initStage(Parent root);
 
   /**
-   * Returns the window initialized by {@link #initStage(Parent)}.
+   * Returns the root node of the view. If the view has been created with {@link
+   * StageInitialization#LAZY}, calling this method initializes the root node, unless this has
+   * happened already.
+   *
+   * @return the root element of the view
+   */
+  @Override
+  protected Parent getRoot() {
+    initializeRoot();
+    return super.getRoot();
+  }
+
+  /**
+   * Returns the scene of the window of the view. If the window has not been initialized yet, it is
+   * initialized by calling this method.
+   *
+   * @return the scene hosting the root node
+   */
+  @Override
+  protected Scene getScene() {
+    return initializeStage().getScene();
+  }
+
+  /**
+   * Returns the window initialized by {@link #initStage(Parent)}. If the window has not been
+   * initialized yet, it is initialized by calling this method.
    *
    * @return the {@code Stage} represented by this view
    */
   @Override
   protected Stage getWindow() {
-    return stage;
+    return initializeStage();
   }
 
   /**
-   * Shows the stage of this view.
+   * Returns the mode defining when the root element and the window of this view are initialized.
+   *
+   * @return the initialization mode, never {@code null}
+   */
+  public final StageInitialization getInitialization() {
+    return initialization;
+  }
+
+  /**
+   * Shows the stage of this view, initializing it first if necessary. If the stage is already
+   * showing, it is brought to the front instead. If the stage is shown again after having been
+   * hidden, {@link #refresh()} is called before it is shown.
    *
    * @see #hide()
    */
   public final void show() {
+    Stage stage = initializeStage();
+    if (stage.isShowing()) {
+      stage.toFront();
+      return;
+    }
+    if (shownBefore) {
+      refresh();
+    }
+    shownBefore = true;
     stage.show();
   }
 
   /**
-   * Hides the stage of this view.
+   * Returns whether the stage of this view is currently showing.
+   *
+   * @return {@code true} if the stage has been initialized and is showing, {@code false} otherwise
+   */
+  public final boolean isShowing() {
+    return stage != null && stage.isShowing();
+  }
+
+  /**
+   * Called by {@link #show()} right before the stage of this view is shown again after having been
+   * hidden. Does nothing by default.
+   *
+   * <p>Windows which are opened repeatedly can be kept and re-shown by calling {@code show()} on
+   * the same view instance, instead of creating a new view (and thus stage) each time. Such views
+   * may override this method to bring their user interface components up to date with their model.
+   */
+  protected void refresh() {}
+
+  /**
+   * Hides the stage of this view. Has no effect if the stage has not been initialized yet.
    *
    * @see #show()
    */
   public final void hide() {
-    stage.hide();
+    if (stage != null) {
+      stage.hide();
+    }
+  }
+
+  private void initializeRoot() {
+    if (super.getRoot() == null) {
+      setRoot(requireNonNull(initRoot()));
+    }
+  }
+
+  @Override
+  final void releaseWindow() {
+    if (stage != null) {
+      stage.hide();
+      stage = null;
+    }
+  }
+
+  private Stage initializeStage() {
+    if (isDisposed()) {
+      throw new IllegalStateException("View has been disposed");
+    }
+    if (stage == null) {
+      Parent root = getRoot();
+      try (StartupTrace.Span span = StartupTrace.span("Create stage of", getClass())) {
+        stage = ViewManager.primeStage(initStage(root), root);
+        ViewManager.get().register(this);
+      }
+    }
+    return stage;
   }
 }
@@ -0,0 +1,292 @@
+package de.fullben.mvcfx;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+
+/**
+ * Records a timeline of the startup of an application, from the start of the JVM until the first
+ * stage of a view has been shown, and writes it in the Chrome trace event format. The timeline can
+ * be opened with {@code chrome://tracing}, Perfetto, or any other viewer supporting the format.
+ *
+ * <p>Tracing is enabled by setting the system property {@value #OUTPUT_PROPERTY} to the path of the
+ * file the timeline is to be written to, e.g. {@code -Dmvcfx.startupTrace=startup.json}. Once the
+ * first stage initialized by a {@link StageView} or {@link FxmlStageView} has been shown, the
+ * recording ends and the file is written. If the property is not set, all methods of this class do
+ * nothing.
+ *
+ * <p>The library records spans for the initialization of the {@link ViewManager} and the scope
+ * manager, the loading of {@link FxmlView}s, the creation of stages, and the application of
+ * themes. Applications can add their own spans:
+ *
+ * <pre>
+ *   try (StartupTrace.Span span = StartupTrace.span("Load preferences")) {
+ *     ...
+ *   }
+ * </pre>
+ *
+ * <p>Every span also records the number of classes loaded by the JVM at its end, which is shown as
+ * a counter track. The time between the start of the JVM and the first use of this class is
+ * recorded as a span of its own.
+ *
+ * @author Benedikt Full
+ */
+public final class StartupTrace {
+
+  /** The system property defining the file the timeline is written to. */
+  public static final String OUTPUT_PROPERTY = "mvcfx.startupTrace";
+
+  private static final Logger LOG = Logger.getLogger(StartupTrace.class.getName());
+  private static final Span NO_SPAN = () -> {};
+  private static final StartupTrace TRACE = new StartupTrace(System.getProperty(OUTPUT_PROPERTY));
+  private final Path output;
+  private final long originNanos;
+  private final ClassLoadingMXBean classLoading;
+  private final List<Event> events;
+  private final Map<Long, String> threadNames;
+  private boolean recording;
+
+  StartupTrace(String output) {
+    this.output = output == null || output.isBlank() ? null : Paths.get(output);
+    long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+    originNanos = System.nanoTime() - uptimeMillis * 1_000_000;
+    classLoading = ManagementFactory.getClassLoadingMXBean();
+    events = new ArrayList<>();
+    threadNames = new LinkedHashMap<>();
+    recording = this.output != null;
+    if (recording) {
+      add("JVM startup", originNanos, System.nanoTime());
+    }
+  }
+
+  /**
+   * Returns whether the startup is being recorded.
+   *
+   * @return {@code true} if tracing is enabled and the first stage has not been shown yet
+   */
+  public static boolean isRecording() {
+    return TRACE.recording();
+  }
+
+  /**
+   * Starts a span with the given name on the current thread. The span ends when it is closed.
+   *
+   * @param name the name of the span
+   * @return the span, which must be closed by the caller
+   */
+  public static Span span(String name) {
+    return TRACE.begin(name);
+  }
+
+  /**
+   * Starts a span named after the given action and type, e.g. {@code "Load MainView"}. The name is
+   * only built if the startup is being recorded.
+   *
+   * @param action the action performed during the span
+   * @param type the type the action is performed for
+   * @return the span, which must be closed by the caller
+   */
+  static Span span(String action, Class<?> type) {
+    return isRecording() ? span(action + " " + type.getSimpleName()) : NO_SPAN;
+  }
+
+  /**
+   * Records an instant with the given name, e.g. the point in time a certain phase of the startup
+   * has been reached.
+   *
+   * @param name the name of the instant
+   */
+  public static void mark(String name) {
+    TRACE.instant(name);
+  }
+
+  /**
+   * Ends the recording and writes the timeline, unless the recording has ended already. Called
+   * automatically once the first stage has been shown; applications without a stage view can call
+   * this method once they are ready for input.
+   */
+  public static void finish() {
+    TRACE.end();
+  }
+
+  /**
+   * Ends the recording once the given stage has been shown, if the startup is still being recorded.
+   *
+   * @param stage a stage initialized by a view
+   */
+  static void watch(Stage stage) {
+    if (!isRecording()) {
+      return;
+    }
+    stage.addEventHandler(
+        WindowEvent.WINDOW_SHOWN,
+        event -> {
+          mark("First stage shown");
+          finish();
+        });
+  }
+
+  synchronized boolean recording() {
+    return recording;
+  }
+
+  Span begin(String name) {
+    if (!recording()) {
+      return NO_SPAN;
+    }
+    long start = System.nanoTime();
+    return () -> add(name, start, System.nanoTime());
+  }
+
+  synchronized void instant(String name) {
+    if (recording) {
+      events.add(new Event(name, "i", relativeMicros(System.nanoTime()), 0, thread()));
+    }
+  }
+
+  synchronized void add(String name, long startNanos, long endNanos) {
+    if (!recording) {
+      return;
+    }
+    long start = relativeMicros(startNanos);
+    long end = relativeMicros(endNanos);
+    long thread = thread();
+    events.add(new Event(name, "X", start, end - start, thread));
+    Event classes = new Event("Loaded classes", "C", end, 0, thread);
+    classes.value = classLoading.getTotalLoadedClassCount();
+    events.add(classes);
+  }
+
+  void end() {
+    synchronized (this) {
+      if (!recording) {
+        return;
+      }
+      recording = false;
+    }
+    try (Writer out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+      write(out);
+      LOG.info("Startup trace written to " + output.toAbsolutePath());
+    } catch (IOException | UncheckedIOException e) {
+      LOG.log(Level.WARNING, "Failed to write startup trace to " + output, e);
+    }
+  }
+
+  /**
+   * Writes the recorded events in the Chrome trace event format.
+   *
+   * @param out the destination of the events
+   * @throws IOException if the events cannot be written
+   */
+  synchronized void write(Appendable out) throws IOException {
+    out.append("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+    boolean first = true;
+    for (Entry<Long, String> thread : threadNames.entrySet()) {
+      first = separate(out, first);
+      out.append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":")
+          .append(String.valueOf(thread.getKey()))
+          .append(",\"args\":{\"name\":");
+      appendString(out, thread.getValue());
+      out.append("}}");
+    }
+    for (Event event : events) {
+      first = separate(out, first);
+      out.append("{\"name\":");
+      appendString(out, event.name);
+      out.append(",\"cat\":\"mvcfx\",\"ph\":\"")
+          .append(event.phase)
+          .append("\",\"ts\":")
+          .append(String.valueOf(event.timestamp))
+          .append(",\"pid\":1,\"tid\":")
+          .append(String.valueOf(event.thread));
+      if (event.phase.equals("X")) {
+        out.append(",\"dur\":").append(String.valueOf(event.duration));
+      } else if (event.phase.equals("i")) {
+        out.append(",\"s\":\"g\"");
+      } else {
+        out.append(",\"args\":{\"classes\":").append(String.valueOf(event.value)).append('}');
+      }
+      out.append('}');
+    }
+    out.append("]}");
+  }
+
+  private long relativeMicros(long nanos) {
+    return (nanos - originNanos) / 1000;
+  }
+
+  private long thread() {
+    Thread thread = Thread.currentThread();
+    threadNames.putIfAbsent(thread.getId(), thread.getName());
+    return thread.getId();
+  }
+
+  private static boolean separate(Appendable out, boolean first) throws IOException {
+    if (!first) {
+      out.append(',');
+    }
+    return false;
+  }
+
+  private static void appendString(Appendable out, String value) throws IOException {
+    out.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        out.append('\\').append(c);
+      } else if (c < 0x20) {
+        out.append(String.format("\\u%04x", (int) c));
+      } else {
+        out.append(c);
+      }
+    }
+    out.append('"');
+  }
+
+  /**
+   * A span of the startup timeline, which ends when it is closed.
+   *
+   * @author Benedikt Full
+   */
+  @FunctionalInterface
+  public interface Span extends AutoCloseable {
+
+    /** Ends the span. */
+    @Override
+    void close();
+  }
+
+  private static final class Event {
+
+    private final String name;
+    private final String phase;
+    private final long timestamp;
+    private final long duration;
+    private final long thread;
+    private long value;
+
+    private Event(String name, String phase, long timestamp, long duration, long thread) {
+      this.name = name;
+      this.phase = phase;
+      this.timestamp = timestamp;
+      this.duration = duration;
+      this.thread = thread;
+      value = 0;
+    }
+  }
+}
@@ -58,7 +58,21 @@ public abstract class StatelessFxmlStageView<ControllerType extends Controller>
    * @param resources the resource bundle to be utilized by this view
    */
   public StatelessFxmlStageView(ControllerType controller, ResourceBundle resources) {
-    super(null, false, controller, resources);
+    super(null, false, controller, resources, StageInitialization.EAGER);
+  }
+
+  /**
+   * Creates a new stateless stage view with the given resources, whose root element and stage are
+   * initialized as defined by the given initialization mode. Callers of this constructor must also
+   * call {@link #load()}.
+   *
+   * @param controller the controller of this view
+   * @param resources the resource bundle to be utilized by this view
+   * @param initialization defines when the root element and the stage of the view are initialized
+   */
+  protected StatelessFxmlStageView(
+      ControllerType controller, ResourceBundle resources, StageInitialization initialization) {
+    super(null, false, controller, resources, initialization);
   }
 
   /**
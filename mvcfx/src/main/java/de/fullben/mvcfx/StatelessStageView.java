@@ -64,7 +64,20 @@ public abstract class StatelessStageView<ControllerType extends Controller>
    * @param resources the resource bundle to be utilized by this view
    */
   public StatelessStageView(ControllerType controller, ResourceBundle resources) {
-    super(null, false, controller, resources);
+    super(null, false, controller, resources, StageInitialization.EAGER);
+  }
+
+  /**
+   * Creates a new stateless view with the given resources, whose root element and window are
+   * initialized as defined by the given initialization mode.
+   *
+   * @param controller the controller of this view
+   * @param resources the resource bundle to be utilized by this view
+   * @param initialization defines when the root element and the window of the view are initialized
+   */
+  protected StatelessStageView(
+      ControllerType controller, ResourceBundle resources, StageInitialization initialization) {
+    super(null, false, controller, resources, initialization);
   }
 
   /**
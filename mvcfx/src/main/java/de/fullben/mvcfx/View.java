@@ -2,8 +2,21 @@ package de.fullben.mvcfx;
 
 import static java.util.Objects.requireNonNull;
 
-import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.function.BiConsumer;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Window;
@@ -32,6 +45,25 @@ import javafx.stage.Window;
  *     ...
  * </pre>
  *
+ * <p>Views which are no longer needed should be disposed by calling {@link #dispose()}. Disposing a
+ * view releases all bindings, listeners, and scope subscriptions established through the view's
+ * tracking methods (e.g. {@link #bind(Property, ObservableValue)} or {@link #subscribe(Scope,
+ * String, BiConsumer)}) and any cleanup actions registered with {@link #onDispose(Runnable)}, and
+ * removes the view from the {@link ViewManager}. This allows the view and its node hierarchy to be
+ * collected right away, instead of lingering until the garbage collector clears the references
+ * held by long-lived models.
+ *
+ * <p>Bindings and listeners connecting the view to its model should be established in {@link
+ * #bindModel()}. Resources tracked while that method runs are released as soon as the view is
+ * unbound from its model, which allows {@link Recyclable} views to be reused for other models by a
+ * {@link ViewPool}.
+ *
+ * <p>Texts which are to follow the locale of the application (see {@link
+ * ViewManager#setLocale(Locale)}) should be set with {@link #localize(Property, String, Object...)}
+ * or bound to a {@link #localizedString(String, Object...)}. When the locale changes, the resource
+ * bundle of the view is replaced by its counterpart for the new locale and these texts are updated,
+ * without having to rebuild the view.
+ *
  * @see StageView
  * @see FxmlView
  * @see FxmlStageView
@@ -41,10 +73,16 @@ import javafx.stage.Window;
  */
 public abstract class View<ModelType, ControllerType extends Controller> {
 
-  private final ModelType model;
-  private final ControllerType controller;
-  private final ResourceBundle resources;
+  private final boolean nonNullModel;
+  private final ReadOnlyObjectWrapper<ResourceBundle> resources;
+  private final List<LocalizedText> localizedTexts;
+  private final List<Runnable> disposeActions;
+  private final List<Runnable> modelActions;
+  private ModelType model;
+  private ControllerType controller;
   private Parent root;
+  private boolean bindingModel;
+  private boolean disposed;
 
   /**
    * Creates a new view with the given resources and calls {@link #initRoot()} to initialize the
@@ -81,11 +119,18 @@ public abstract class View<ModelType, ControllerType extends Controller> {
       ControllerType controller,
       ResourceBundle resources,
       boolean initRoot) {
+    this.nonNullModel = nonNullModel;
     this.model = nonNullModel ? requireNonNull(model) : model;
     this.controller = requireNonNull(controller);
-    this.resources = requireNonNull(resources);
+    this.resources = new ReadOnlyObjectWrapper<>(this, "resources", requireNonNull(resources));
+    localizedTexts = new ArrayList<>();
+    disposeActions = new ArrayList<>();
+    modelActions = new ArrayList<>();
+    bindingModel = false;
+    disposed = false;
     if (initRoot) {
-      root = requireNonNull(initRoot());
+      root = null;
+      setRoot(initRoot());
       ViewManager.get().register(this);
     } else {
       root = null;
@@ -115,8 +160,22 @@ public abstract class View<ModelType, ControllerType extends Controller> {
   protected abstract Parent initRoot();
 
   /**
-   * Can be used to set the user interface components to be represented by this view instance. Note
-   * that this method can only be used if the instance's root node has not been assigned yet.
+   * Called once the user interface components of this view have been initialized (i.e. after
+   * {@link #initRoot()} has returned or the view has been loaded from its {@code fxml} file), and
+   * again whenever a {@link Recyclable} view is rebound to a new model by a {@link ViewPool}. Does
+   * nothing by default.
+   *
+   * <p>Views may override this method to establish the bindings, listeners, and subscriptions which
+   * connect their components to their model. If these are established through the tracking methods
+   * of this class (e.g. {@link #bindBidirectional(Property, Property)}), they are released
+   * automatically when the view is returned to a pool or disposed.
+   */
+  protected void bindModel() {}
+
+  /**
+   * Can be used to set the user interface components to be represented by this view instance,
+   * followed by calling {@link #bindModel()}. Note that this method can only be used if the
+   * instance's root node has not been assigned yet.
    *
    * @param root the root element of the user interface graph to be represented by this view
    * @throws NullPointerException if the given {@code root} is {@code null}
@@ -129,6 +188,7 @@ public abstract class View<ModelType, ControllerType extends Controller> {
       throw new IllegalStateException("Root node can only be set once");
     }
     this.root = root;
+    initModelBindings();
   }
 
   /**
@@ -140,6 +200,15 @@ public abstract class View<ModelType, ControllerType extends Controller> {
     return root;
   }
 
+  /**
+   * Returns the root node of the view as it is, without initializing or loading it.
+   *
+   * @return the root element of the view, or {@code null} if it has not been initialized yet
+   */
+  final Parent currentRoot() {
+    return root;
+  }
+
   /**
    * Returns the scene of the root node (initialized by {@link #initRoot()} of the view.
    *
@@ -185,7 +254,18 @@ public abstract class View<ModelType, ControllerType extends Controller> {
    * @return the resource bundle of the view, never {@code null}
    */
   protected final ResourceBundle getResources() {
-    return resources;
+    return resources.get();
+  }
+
+  /**
+   * Returns the property holding the resource bundle of the view, which changes whenever the view
+   * is relabeled for a new locale.
+   *
+   * @return the resources property of the view
+   * @see ViewManager#setLocale(Locale)
+   */
+  protected final ReadOnlyObjectProperty<ResourceBundle> resourcesProperty() {
+    return resources.getReadOnlyProperty();
   }
 
   /**
@@ -200,14 +280,15 @@ public abstract class View<ModelType, ControllerType extends Controller> {
    * @see #getString(String, Object...)
    */
   protected final String getString(String key) {
-    return resources.getString(key);
+    return resources.get().getString(key);
   }
 
   /**
    * Returns the string resource identified by the given {@code key} after having inserted the given
    * arguments.
    *
-   * <p>The main purpose of this method is the retrieval of localized user interface messages.
+   * <p>The main purpose of this method is the retrieval of localized user interface messages. The
+   * message pattern is only parsed on the first call for the given key, see {@link MessageFormats}.
    *
    * @param key a valid resource key
    * @param arguments values for filling the placeholders in the resource string identified by the
@@ -218,9 +299,287 @@ public abstract class View<ModelType, ControllerType extends Controller> {
    * @see #getString(String)
    */
   protected final String getString(String key, Object... arguments) {
-    if (arguments == null || arguments.length == 0) {
-      return getString(key);
+    return MessageFormats.format(resources.get(), key, arguments);
+  }
+
+  /**
+   * Returns a binding of the string resource identified by the given {@code key}, with the given
+   * arguments inserted. The value of the binding follows the resource bundle of the view, so
+   * properties bound to it are updated when the view is relabeled for a new locale.
+   *
+   * @param key a valid resource key
+   * @param arguments values for filling the placeholders in the resource string identified by the
+   *     given key
+   * @return the binding
+   * @throws NullPointerException if the given {@code key} is {@code null}
+   * @see #getString(String, Object...)
+   */
+  protected final StringBinding localizedString(String key, Object... arguments) {
+    requireNonNull(key);
+    return Bindings.createStringBinding(() -> getString(key, arguments), resources);
+  }
+
+  /**
+   * Sets the given property to the string resource identified by the given {@code key}, with the
+   * given arguments inserted, and updates it whenever the view is relabeled for a new locale.
+   * Unlike binding the property to a {@link #localizedString(String, Object...)}, the property can
+   * still be set by the view. Once it has been set to another value or bound, it is no longer
+   * updated.
+   *
+   * @param property the property to be set, usually the text of a user interface component, must
+   *     not be bound
+   * @param key a valid resource key
+   * @param arguments values for filling the placeholders in the resource string identified by the
+   *     given key
+   * @throws NullPointerException if the given {@code property} or {@code key} is {@code null}
+   * @throws java.util.MissingResourceException if no string for the given key can be found
+   */
+  protected final void localize(Property<String> property, String key, Object... arguments) {
+    requireNonNull(property);
+    LocalizedText text = new LocalizedText(property, key, arguments, getString(key, arguments));
+    property.setValue(text.value);
+    localizedTexts.removeIf(localized -> localized.property == property);
+    localizedTexts.add(text);
+  }
+
+  /**
+   * Replaces the resource bundle of this view with the bundle of the same family for the given
+   * locale and updates all localized texts of the view. Has no effect if the bundle for the locale
+   * is the current bundle of the view, or if the family of the current bundle is unknown (i.e. if
+   * the bundle has not been loaded by {@link ResourceBundle#getBundle(String)}).
+   *
+   * @param locale the new locale of the view
+   * @return the number of updated texts, or {@code -1} if the bundle has not been replaced
+   * @throws MissingResourceException if no bundle for the locale can be found
+   */
+  final int relocalize(Locale locale) {
+    ResourceBundle current = resources.get();
+    String baseName = current.getBaseBundleName();
+    if (baseName == null) {
+      return -1;
+    }
+    ResourceBundle bundle =
+        ResourceBundles.getBundle(baseName, locale, getClass().getClassLoader());
+    if (bundle == current) {
+      return -1;
+    }
+    resources.set(bundle);
+    int updated = 0;
+    for (LocalizedText text : localizedTexts) {
+      if (text.update(this)) {
+        updated++;
+      }
+    }
+    localizedTexts.removeIf(text -> text.property == null);
+    return updated;
+  }
+
+  /**
+   * Registers the given action to be run when this view is disposed. Actions are run in the
+   * reverse order of their registration.
+   *
+   * @param action the cleanup action, must not be {@code null}
+   * @throws IllegalStateException if the view has been disposed already
+   * @see #dispose()
+   */
+  protected final void onDispose(Runnable action) {
+    requireNonNull(action);
+    assertNotDisposed();
+    disposeActions.add(action);
+  }
+
+  /**
+   * Binds the given property to the given observable value until this view is disposed.
+   *
+   * @param property the property to be bound
+   * @param observable the observable value the property is bound to
+   * @param <T> the type of the value
+   * @see Property#bind(ObservableValue)
+   */
+  protected final <T> void bind(Property<T> property, ObservableValue<? extends T> observable) {
+    assertNotDisposed();
+    property.bind(observable);
+    track(property::unbind);
+  }
+
+  /**
+   * Binds the given properties bidirectionally until this view is disposed.
+   *
+   * @param property the first property, usually belonging to a user interface component
+   * @param other the second property, usually belonging to the model of the view
+   * @param <T> the type of the value
+   * @see Property#bindBidirectional(Property)
+   */
+  protected final <T> void bindBidirectional(Property<T> property, Property<T> other) {
+    assertNotDisposed();
+    property.bindBidirectional(other);
+    track(() -> property.unbindBidirectional(other));
+  }
+
+  /**
+   * Adds the given change listener to the given observable value until this view is disposed.
+   *
+   * @param observable the observed value
+   * @param listener the listener
+   * @param <T> the type of the value
+   */
+  protected final <T> void addListener(
+      ObservableValue<T> observable, ChangeListener<? super T> listener) {
+    assertNotDisposed();
+    observable.addListener(listener);
+    track(() -> observable.removeListener(listener));
+  }
+
+  /**
+   * Adds the given invalidation listener to the given observable until this view is disposed.
+   *
+   * @param observable the observable
+   * @param listener the listener
+   */
+  protected final void addListener(Observable observable, InvalidationListener listener) {
+    assertNotDisposed();
+    observable.addListener(listener);
+    track(() -> observable.removeListener(listener));
+  }
+
+  /**
+   * Subscribes the given observer to the given message of the given scope until this view is
+   * disposed.
+   *
+   * @param scope the scope
+   * @param messageName the message identifier
+   * @param observer the code to be executed whenever the message is published
+   * @see Scope#subscribe(String, BiConsumer)
+   */
+  protected final void subscribe(
+      Scope scope, String messageName, BiConsumer<String, Object[]> observer) {
+    assertNotDisposed();
+    scope.subscribe(messageName, observer);
+    track(() -> scope.unsubscribe(messageName, observer));
+  }
+
+  /**
+   * Disposes this view by releasing all bindings, listeners, and subscriptions established through
+   * the tracking methods of this view, running all actions registered with {@link
+   * #onDispose(Runnable)}, and removing the view from the application's {@link ViewManager}. If the
+   * view is hosted in its own window, the window is hidden and released as well.
+   *
+   * <p>A disposed view must not be used anymore. Calling this method more than once has no effect.
+   * Like all other operations on user interface components, this method must be called on the
+   * JavaFX application thread.
+   */
+  public final void dispose() {
+    if (disposed) {
+      return;
+    }
+    disposed = true;
+    releaseModelBindings();
+    runReversed(disposeActions);
+    localizedTexts.clear();
+    releaseWindow();
+    ViewManager.get().unregister(this);
+  }
+
+  /**
+   * Returns whether this view has been disposed.
+   *
+   * @return {@code true} if {@link #dispose()} has been called, {@code false} otherwise
+   */
+  public final boolean isDisposed() {
+    return disposed;
+  }
+
+  /**
+   * Releases all bindings, listeners, and subscriptions established by {@link #bindModel()} and
+   * detaches this view from its model and controller, so that it can be kept by a {@link ViewPool}
+   * without retaining either of them.
+   */
+  final void unbind() {
+    assertNotDisposed();
+    releaseModelBindings();
+    model = null;
+    controller = null;
+  }
+
+  /**
+   * Attaches this view to the given model and controller and calls {@link #bindModel()}.
+   *
+   * @param model the new model of the view
+   * @param controller the new controller of the view
+   */
+  final void rebind(ModelType model, ControllerType controller) {
+    assertNotDisposed();
+    this.model = nonNullModel ? requireNonNull(model) : model;
+    this.controller = requireNonNull(controller);
+    initModelBindings();
+  }
+
+  /**
+   * Called by {@link #dispose()} to hide and release the window hosting this view, if the window is
+   * owned by the view. Does nothing by default.
+   */
+  void releaseWindow() {}
+
+  private void track(Runnable releaseAction) {
+    (bindingModel ? modelActions : disposeActions).add(releaseAction);
+  }
+
+  private void initModelBindings() {
+    bindingModel = true;
+    try {
+      bindModel();
+    } finally {
+      bindingModel = false;
+    }
+  }
+
+  private void releaseModelBindings() {
+    runReversed(modelActions);
+  }
+
+  private static void runReversed(List<Runnable> actions) {
+    for (int i = actions.size() - 1; i >= 0; i--) {
+      actions.get(i).run();
+    }
+    actions.clear();
+  }
+
+  private void assertNotDisposed() {
+    if (disposed) {
+      throw new IllegalStateException("View has been disposed");
+    }
+  }
+
+  /**
+   * A text set by {@link #localize(Property, String, Object...)}, along with the value it has been
+   * set to, which is used to tell whether the property has been changed by other means since.
+   * Bound properties cannot be set, and are considered changed as well.
+   *
+   * @author Benedikt Full
+   */
+  private static final class LocalizedText {
+
+    private final String key;
+    private final Object[] arguments;
+    private Property<String> property;
+    private String value;
+
+    private LocalizedText(Property<String> property, String key, Object[] arguments, String value) {
+      this.property = property;
+      this.key = requireNonNull(key);
+      this.arguments = arguments;
+      this.value = value;
+    }
+
+    private boolean update(View<?, ?> view) {
+      if (property.isBound() || !value.equals(property.getValue())) {
+        // Bound or changed by the view, so the text is no longer managed
+        property = null;
+        return false;
+      }
+      value = view.getString(key, arguments);
+      property.setValue(value);
+      return true;
     }
-    return MessageFormat.format(getString(key), arguments);
   }
 }
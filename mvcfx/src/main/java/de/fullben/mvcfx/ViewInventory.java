@@ -0,0 +1,217 @@
+package de.fullben.mvcfx;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A snapshot of the user interface components known to the {@link ViewManager}, as returned by
+ * {@link ViewManager#inventory()}. Can be used to find views which are not released as expected.
+ *
+ * <p>The inventory lists the number of live views per view class, along with the number of nodes
+ * in their node hierarchies. As the manager references views and alerts weakly, the inventory also
+ * reports the number of registry entries whose view or alert has been garbage collected, but which
+ * have not been cleaned up yet.
+ *
+ * <p>Note that node counts include the nodes of nested views (e.g. a view whose root has been added
+ * to the node hierarchy of another view is counted for both views). The retained size is a rough
+ * estimate based on the node count and is only meant to indicate the order of magnitude of the
+ * memory held by the views.
+ *
+ * @see ViewManager#inventory()
+ * @author Benedikt Full
+ */
+public final class ViewInventory {
+
+  /** The number of bytes assumed to be retained per node when estimating retained sizes. */
+  public static final long ESTIMATED_BYTES_PER_NODE = 1024;
+
+  private final Instant timestamp;
+  private final List<ViewTypeInventory> viewTypes;
+  private final int collectedViewEntries;
+  private final int liveAlerts;
+  private final int collectedAlertEntries;
+
+  ViewInventory(
+      List<ViewTypeInventory> viewTypes,
+      int collectedViewEntries,
+      int liveAlerts,
+      int collectedAlertEntries) {
+    timestamp = Instant.now();
+    List<ViewTypeInventory> sorted = new ArrayList<>(viewTypes);
+    sorted.sort(
+        Comparator.comparingInt(ViewTypeInventory::getViewCount)
+            .reversed()
+            .thenComparing(ViewTypeInventory::getTypeName));
+    this.viewTypes = Collections.unmodifiableList(sorted);
+    this.collectedViewEntries = collectedViewEntries;
+    this.liveAlerts = liveAlerts;
+    this.collectedAlertEntries = collectedAlertEntries;
+  }
+
+  /**
+   * Returns the point in time the inventory has been taken at.
+   *
+   * @return the timestamp of the inventory
+   */
+  public Instant getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * Returns the inventories of all view classes with live views, ordered by descending view count.
+   *
+   * @return an unmodifiable list of the view type inventories
+   */
+  public List<ViewTypeInventory> getViewTypes() {
+    return viewTypes;
+  }
+
+  /**
+   * Returns the number of registered views which have not been garbage collected.
+   *
+   * @return the number of live views
+   */
+  public int getLiveViewCount() {
+    return viewTypes.stream().mapToInt(ViewTypeInventory::getViewCount).sum();
+  }
+
+  /**
+   * Returns the number of view registry entries whose view has been garbage collected, but which
+   * have not been removed from the registry yet.
+   *
+   * @return the number of collected view entries
+   */
+  public int getCollectedViewEntryCount() {
+    return collectedViewEntries;
+  }
+
+  /**
+   * Returns the number of registered alerts which have not been garbage collected.
+   *
+   * @return the number of live alerts
+   */
+  public int getLiveAlertCount() {
+    return liveAlerts;
+  }
+
+  /**
+   * Returns the number of alert registry entries whose alert has been garbage collected, but which
+   * have not been removed from the registry yet.
+   *
+   * @return the number of collected alert entries
+   */
+  public int getCollectedAlertEntryCount() {
+    return collectedAlertEntries;
+  }
+
+  /**
+   * Returns the total number of nodes in the node hierarchies of all live views.
+   *
+   * @return the number of nodes
+   */
+  public long getNodeCount() {
+    return viewTypes.stream().mapToLong(ViewTypeInventory::getNodeCount).sum();
+  }
+
+  /**
+   * Returns a rough estimate of the memory retained by the node hierarchies of all live views.
+   *
+   * @return the estimated retained size in bytes
+   */
+  public long getEstimatedRetainedBytes() {
+    return getNodeCount() * ESTIMATED_BYTES_PER_NODE;
+  }
+
+  /**
+   * Returns a multi-line, human-readable report of this inventory.
+   *
+   * @return the report
+   */
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    report
+        .append("View inventory at ")
+        .append(timestamp)
+        .append(": ")
+        .append(getLiveViewCount())
+        .append(" live views (")
+        .append(collectedViewEntries)
+        .append(" collected entries), ")
+        .append(liveAlerts)
+        .append(" live alerts (")
+        .append(collectedAlertEntries)
+        .append(" collected entries), ")
+        .append(getNodeCount())
+        .append(" nodes, ~")
+        .append(getEstimatedRetainedBytes() / 1024)
+        .append(" KiB");
+    for (ViewTypeInventory viewType : viewTypes) {
+      report.append(System.lineSeparator()).append("  ").append(viewType);
+    }
+    return report.toString();
+  }
+
+  /**
+   * The inventory of the live views of a single view class.
+   *
+   * @author Benedikt Full
+   */
+  public static final class ViewTypeInventory {
+
+    private final String typeName;
+    private final int viewCount;
+    private final long nodeCount;
+
+    ViewTypeInventory(String typeName, int viewCount, long nodeCount) {
+      this.typeName = typeName;
+      this.viewCount = viewCount;
+      this.nodeCount = nodeCount;
+    }
+
+    /**
+     * Returns the fully qualified name of the view class.
+     *
+     * @return the name of the view class
+     */
+    public String getTypeName() {
+      return typeName;
+    }
+
+    /**
+     * Returns the number of live views of the view class.
+     *
+     * @return the number of views
+     */
+    public int getViewCount() {
+      return viewCount;
+    }
+
+    /**
+     * Returns the total number of nodes in the node hierarchies of the live views of the class.
+     *
+     * @return the number of nodes
+     */
+    public long getNodeCount() {
+      return nodeCount;
+    }
+
+    /**
+     * Returns a rough estimate of the memory retained by the node hierarchies of the live views of
+     * the class.
+     *
+     * @return the estimated retained size in bytes
+     */
+    public long getEstimatedRetainedBytes() {
+      return nodeCount * ESTIMATED_BYTES_PER_NODE;
+    }
+
+    @Override
+    public String toString() {
+      return typeName + ": " + viewCount + " views, " + nodeCount + " nodes";
+    }
+  }
+}
@@ -2,53 +2,93 @@ package de.fullben.mvcfx;
 
 import static java.util.Objects.requireNonNull;
 
+import de.fullben.mvcfx.ViewInventory.ViewTypeInventory;
 import de.fullben.mvcfx.theme.PlatformDefaultTheme;
 import de.fullben.mvcfx.theme.Theme;
+import java.lang.management.ManagementFactory;
 import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.control.Alert;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.stage.Window;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 /**
  * Each application has a {@code ViewManager} which keeps track of user interface components. The
  * manager instance can be accessed by calling the {@link #get()} method. It can be used to make
- * application-wide changes, such as setting a theme.
+ * application-wide changes, such as setting a theme or a locale.
  *
  * <p>Note that only view components initialized via framework utilities (so either by using {@link
  * View} and any of its extensions or {@link Dialogs}) will be registered with the {@code
  * ViewManager}.
  *
+ * <p>The manager can also be used to find views which are not released as expected: {@link
+ * #inventory()} returns a snapshot of all live views, which can also be logged periodically (see
+ * {@link #setInventoryLogInterval(Duration)}) or monitored via JMX (see {@link #registerMBean()}).
+ *
  * @author Benedikt Full
  */
 public final class ViewManager {
 
+  private static final Logger LOG = Logger.getLogger(ViewManager.class.getName());
   private static final ViewManager VIEW_MANAGER = new ViewManager();
+  private static final long FX_THREAD_TIMEOUT_SECONDS = 5;
+  private static final long RELABEL_BUDGET_NANOS = 4_000_000;
   private final List<WeakReference<View<?, ?>>> viewRegistry;
   private final List<WeakReference<Alert>> alertRegistry;
+  private final Deque<WeakReference<View<?, ?>>> relabelQueue;
+  private final Timer timer;
+  private TimerTask inventoryLogTask;
+  private AnimationTimer relabeler;
   private Theme theme;
+  private Locale locale;
 
   private ViewManager() {
-    viewRegistry = Collections.synchronizedList(new ArrayList<>());
-    alertRegistry = Collections.synchronizedList(new ArrayList<>());
-    new Timer(true)
-        .scheduleAtFixedRate(
-            new TimerTask() {
-              @Override
-              public void run() {
-                cleanUpRegistries();
-              }
-            },
-            30000,
-            30000);
-    theme = new PlatformDefaultTheme();
+    try (StartupTrace.Span span = StartupTrace.span("ViewManager initialization")) {
+      viewRegistry = Collections.synchronizedList(new ArrayList<>());
+      alertRegistry = Collections.synchronizedList(new ArrayList<>());
+      relabelQueue = new ArrayDeque<>();
+      timer = new Timer("mvcfx-view-manager", true);
+      timer.scheduleAtFixedRate(
+          new TimerTask() {
+            @Override
+            public void run() {
+              cleanUpRegistries();
+            }
+          },
+          30000,
+          30000);
+      inventoryLogTask = null;
+      relabeler = null;
+      theme = new PlatformDefaultTheme();
+      locale = null;
+    }
   }
 
   /**
@@ -72,8 +112,175 @@ public final class ViewManager {
       return;
     }
     this.theme = theme;
-    forEachRegisteredView(this::applyTheme);
-    forEachRegisteredAlert(this::applyTheme);
+    FlightRecorderEvents.ThemeChange event = new FlightRecorderEvents.ThemeChange();
+    event.begin();
+    int[] counts = new int[2];
+    forEachRegisteredView(
+        view -> {
+          applyTheme(view);
+          counts[0]++;
+        });
+    forEachRegisteredAlert(
+        alert -> {
+          applyTheme(alert);
+          counts[1]++;
+        });
+    event.theme = theme.getClass().getName();
+    event.viewCount = counts[0];
+    event.alertCount = counts[1];
+    event.commit();
+  }
+
+  /**
+   * Sets the locale of the application and relabels the views registered with this manager, i.e.
+   * replaces the resource bundle of each view with its counterpart for the given locale and updates
+   * the localized texts of the view (see {@link View#localize(javafx.beans.property.Property,
+   * String, Object...)}). Views are not rebuilt.
+   *
+   * <p>The views are relabeled over the course of the following pulses, with a small time budget
+   * per pulse, so that switching the locale does not stall the user interface even with many live
+   * views. Views hosted by showing windows are relabeled first. Views registered after the locale
+   * has been set are relabeled as soon as they are registered. Like all other operations on user
+   * interface components, this method must be called on the JavaFX application thread.
+   *
+   * @param locale the new locale, must not be {@code null}
+   */
+  public void setLocale(Locale locale) {
+    requireNonNull(locale, "Locale must not be null");
+    if (locale.equals(this.locale)) {
+      return;
+    }
+    this.locale = locale;
+    FlightRecorderEvents.LocaleChange event = new FlightRecorderEvents.LocaleChange();
+    event.begin();
+    List<View<?, ?>> hiddenViews = new ArrayList<>();
+    relabelQueue.clear();
+    forEachRegisteredView(
+        view -> {
+          if (isShowing(view)) {
+            relabelQueue.add(new WeakReference<>(view));
+          } else {
+            hiddenViews.add(view);
+          }
+        });
+    for (View<?, ?> view : hiddenViews) {
+      relabelQueue.add(new WeakReference<>(view));
+    }
+    if (relabeler == null && !relabelQueue.isEmpty()) {
+      relabeler =
+          new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+              relabelNext();
+            }
+          };
+      relabeler.start();
+    }
+    event.locale = locale.toLanguageTag();
+    event.viewCount = relabelQueue.size();
+    event.commit();
+  }
+
+  /**
+   * Returns the locale of the application.
+   *
+   * @return the locale set by {@link #setLocale(Locale)}, or the default locale if none has been
+   *     set
+   */
+  public Locale getLocale() {
+    return locale == null ? Locale.getDefault() : locale;
+  }
+
+  /**
+   * Takes an inventory of the views and alerts currently registered with this manager. As this
+   * involves traversing the node hierarchies of the views, the method should be called on the
+   * JavaFX application thread.
+   *
+   * @return the inventory, never {@code null}
+   */
+  public ViewInventory inventory() {
+    Map<Class<?>, long[]> viewTypes = new LinkedHashMap<>();
+    int collectedViews = 0;
+    synchronized (viewRegistry) {
+      for (WeakReference<View<?, ?>> viewReference : viewRegistry) {
+        View<?, ?> view = viewReference.get();
+        if (view == null) {
+          collectedViews++;
+          continue;
+        }
+        // Index 0 holds the view count, index 1 the node count
+        long[] counts = viewTypes.computeIfAbsent(view.getClass(), type -> new long[2]);
+        counts[0]++;
+        counts[1] += countNodes(view.currentRoot());
+      }
+    }
+    int liveAlerts = 0;
+    int collectedAlerts = 0;
+    synchronized (alertRegistry) {
+      for (WeakReference<Alert> alertReference : alertRegistry) {
+        if (alertReference.get() == null) {
+          collectedAlerts++;
+        } else {
+          liveAlerts++;
+        }
+      }
+    }
+    List<ViewTypeInventory> inventories = new ArrayList<>();
+    for (Map.Entry<Class<?>, long[]> entry : viewTypes.entrySet()) {
+      long[] counts = entry.getValue();
+      inventories.add(
+          new ViewTypeInventory(entry.getKey().getName(), (int) counts[0], counts[1]));
+    }
+    return new ViewInventory(inventories, collectedViews, liveAlerts, collectedAlerts);
+  }
+
+  /**
+   * Registers the {@link ViewManagerMXBean} of this manager with the platform MBean server. Has no
+   * effect if the bean has been registered already.
+   *
+   * @throws IllegalStateException if the bean cannot be registered
+   */
+  public void registerMBean() {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName(ViewManagerMXBean.OBJECT_NAME);
+      synchronized (this) {
+        if (!server.isRegistered(name)) {
+          server.registerMBean(new ViewManagerMXBeanImpl(this), name);
+        }
+      }
+    } catch (JMException e) {
+      throw new IllegalStateException("Failed to register view manager bean", e);
+    }
+  }
+
+  /**
+   * Sets the interval at which an {@link #inventory()} of this manager is logged (at level {@code
+   * INFO}). Logging is disabled by default.
+   *
+   * @param interval the interval between two inventories, {@code null} or zero to disable logging
+   * @throws IllegalArgumentException if the given interval is negative
+   */
+  public synchronized void setInventoryLogInterval(Duration interval) {
+    if (interval != null && interval.isNegative()) {
+      throw new IllegalArgumentException("Interval must not be negative");
+    }
+    if (inventoryLogTask != null) {
+      inventoryLogTask.cancel();
+      inventoryLogTask = null;
+    }
+    if (interval == null || interval.isZero()) {
+      return;
+    }
+    inventoryLogTask =
+        new TimerTask() {
+          @Override
+          public void run() {
+            logInventory();
+          }
+        };
+    long period = Math.max(1, interval.toMillis());
+    timer.scheduleAtFixedRate(inventoryLogTask, period, period);
   }
 
   void register(View<?, ?> view) {
@@ -85,9 +292,37 @@ public final class ViewManager {
       }
       viewRegistry.add(new WeakReference<>(view));
     }
+    if (locale != null) {
+      relabel(view);
+    }
     applyTheme(view);
   }
 
+  /**
+   * Returns the registered view with the given root element.
+   *
+   * @param root the root element of a view
+   * @return the view, or {@code null} if no registered view has the given root
+   */
+  View<?, ?> findView(Parent root) {
+    synchronized (viewRegistry) {
+      for (WeakReference<View<?, ?>> viewReference : viewRegistry) {
+        View<?, ?> view = viewReference.get();
+        if (view != null && view.currentRoot() == root) {
+          return view;
+        }
+      }
+    }
+    return null;
+  }
+
+  void unregister(View<?, ?> view) {
+    synchronized (viewRegistry) {
+      viewRegistry.removeIf(
+          viewReference -> viewReference.get() == null || view.equals(viewReference.get()));
+    }
+  }
+
   void register(Alert alert) {
     synchronized (alertRegistry) {
       for (WeakReference<Alert> alertReference : alertRegistry) {
@@ -124,11 +359,65 @@ public final class ViewManager {
     }
   }
 
+  private void relabelNext() {
+    long deadline = System.nanoTime() + RELABEL_BUDGET_NANOS;
+    do {
+      WeakReference<View<?, ?>> viewReference = relabelQueue.poll();
+      if (viewReference == null) {
+        relabeler.stop();
+        relabeler = null;
+        return;
+      }
+      View<?, ?> view = viewReference.get();
+      if (view != null && !view.isDisposed()) {
+        relabel(view);
+      }
+    } while (System.nanoTime() < deadline);
+  }
+
+  private void relabel(View<?, ?> view) {
+    FlightRecorderEvents.ViewRelabel event = new FlightRecorderEvents.ViewRelabel();
+    event.begin();
+    int textCount;
+    try {
+      textCount = view.relocalize(locale);
+    } catch (MissingResourceException e) {
+      LOG.log(Level.WARNING, "Cannot relabel view " + view.getClass().getName(), e);
+      return;
+    }
+    event.end();
+    if (textCount >= 0 && event.shouldCommit()) {
+      event.viewType = view.getClass();
+      event.locale = locale.toLanguageTag();
+      event.textCount = textCount;
+      event.commit();
+    }
+  }
+
+  private static boolean isShowing(View<?, ?> view) {
+    Parent root = view.currentRoot();
+    if (root == null || root.getScene() == null) {
+      return false;
+    }
+    Window window = root.getScene().getWindow();
+    return window != null && window.isShowing();
+  }
+
   private void applyTheme(View<?, ?> view, Theme theme) {
-    if (view instanceof StageView) {
-      theme.applyTo(view.getScene());
-    } else {
-      theme.applyTo(view.getRoot());
+    FlightRecorderEvents.ThemeApplication event = new FlightRecorderEvents.ThemeApplication();
+    event.begin();
+    try (StartupTrace.Span span = StartupTrace.span("Apply theme to", view.getClass())) {
+      if (view instanceof StageView) {
+        theme.applyTo(view.getScene());
+      } else {
+        theme.applyTo(view.getRoot());
+      }
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      event.viewType = view.getClass();
+      event.theme = theme.getClass().getName();
+      event.commit();
     }
   }
 
@@ -144,7 +433,75 @@ public final class ViewManager {
     applyTheme(alert, theme);
   }
 
-  private void cleanUpRegistries() {
+  /**
+   * Applies the current theme to the given node, e.g. the pane of a dialog which is not an alert.
+   * Nodes themed this way are not updated once the theme changes.
+   *
+   * @param parent the node to be themed
+   */
+  void applyTheme(Parent parent) {
+    theme.applyTo(parent);
+  }
+
+  private void logInventory() {
+    try {
+      LOG.info(callOnFxThread(this::inventory).toString());
+    } catch (RuntimeException e) {
+      LOG.log(Level.WARNING, "Failed to take view inventory", e);
+    }
+  }
+
+  private static long countNodes(Node node) {
+    if (node == null) {
+      return 0;
+    }
+    long count = 1;
+    if (node instanceof Parent) {
+      for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+        count += countNodes(child);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the result of the given supplier, which is called on the JavaFX application thread. If
+   * the current thread is not the application thread, the calling thread waits for the result.
+   * Should the JavaFX toolkit not be running, the supplier is called directly.
+   *
+   * @param supplier the supplier to be called
+   * @param <T> the type of the result
+   * @return the result of the supplier
+   * @throws IllegalStateException if the application thread does not respond in time
+   */
+  static <T> T callOnFxThread(Supplier<T> supplier) {
+    if (Platform.isFxApplicationThread()) {
+      return supplier.get();
+    }
+    FutureTask<T> task = new FutureTask<>(supplier::get);
+    try {
+      Platform.runLater(task);
+    } catch (IllegalStateException e) {
+      // Toolkit not initialized, so there is no application thread to wait for
+      return supplier.get();
+    }
+    try {
+      return task.get(FX_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the application thread", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (TimeoutException e) {
+      task.cancel(false);
+      throw new IllegalStateException("JavaFX application thread did not respond in time", e);
+    }
+  }
+
+  void cleanUpRegistries() {
     synchronized (viewRegistry) {
       viewRegistry.removeIf(viewReference -> viewReference.get() == null);
     }
@@ -162,6 +519,7 @@ public final class ViewManager {
     stage.initModality(Modality.WINDOW_MODAL);
     stage.initOwner(findVisibleWindow());
     stage.hide();
+    StartupTrace.watch(stage);
     return stage;
   }
 
@@ -0,0 +1,95 @@
+package de.fullben.mvcfx;
+
+import java.util.Map;
+
+/**
+ * Management interface of the {@link ViewManager}, which exposes the manager's {@link
+ * ViewInventory} via JMX. The bean can be registered with the platform MBean server by calling
+ * {@link ViewManager#registerMBean()}, after which it is available under the name {@value
+ * #OBJECT_NAME} (e.g. in JDK Mission Control or VisualVM).
+ *
+ * <p>Each attribute is read from a fresh inventory, which is taken on the JavaFX application
+ * thread.
+ *
+ * @see ViewManager#inventory()
+ * @author Benedikt Full
+ */
+public interface ViewManagerMXBean {
+
+  /** The object name the bean is registered under. */
+  String OBJECT_NAME = "de.fullben.mvcfx:type=ViewManager";
+
+  /**
+   * Returns the number of registered views which have not been garbage collected.
+   *
+   * @return the number of live views
+   * @see ViewInventory#getLiveViewCount()
+   */
+  int getLiveViewCount();
+
+  /**
+   * Returns the number of view registry entries whose view has been garbage collected, but which
+   * have not been removed from the registry yet.
+   *
+   * @return the number of collected view entries
+   * @see ViewInventory#getCollectedViewEntryCount()
+   */
+  int getCollectedViewEntryCount();
+
+  /**
+   * Returns the number of registered alerts which have not been garbage collected.
+   *
+   * @return the number of live alerts
+   * @see ViewInventory#getLiveAlertCount()
+   */
+  int getLiveAlertCount();
+
+  /**
+   * Returns the number of alert registry entries whose alert has been garbage collected, but which
+   * have not been removed from the registry yet.
+   *
+   * @return the number of collected alert entries
+   * @see ViewInventory#getCollectedAlertEntryCount()
+   */
+  int getCollectedAlertEntryCount();
+
+  /**
+   * Returns the number of live views per view class.
+   *
+   * @return the view counts, keyed by fully qualified class name
+   */
+  Map<String, Integer> getLiveViewCountsByType();
+
+  /**
+   * Returns the number of nodes of the live views per view class.
+   *
+   * @return the node counts, keyed by fully qualified class name
+   */
+  Map<String, Long> getNodeCountsByType();
+
+  /**
+   * Returns the total number of nodes in the node hierarchies of all live views.
+   *
+   * @return the number of nodes
+   * @see ViewInventory#getNodeCount()
+   */
+  long getNodeCount();
+
+  /**
+   * Returns a rough estimate of the memory retained by the node hierarchies of all live views.
+   *
+   * @return the estimated retained size in bytes
+   * @see ViewInventory#getEstimatedRetainedBytes()
+   */
+  long getEstimatedRetainedBytes();
+
+  /**
+   * Returns a human-readable report of the current inventory.
+   *
+   * @return the report
+   */
+  String getInventoryReport();
+
+  /** Removes all registry entries whose view or alert has been garbage collected. */
+  void cleanUpRegistries();
+}
@@ -0,0 +1,82 @@
+package de.fullben.mvcfx;
+
+import de.fullben.mvcfx.ViewInventory.ViewTypeInventory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@link ViewManagerMXBean} implementation, which takes a new inventory from the {@link
+ * ViewManager} for each request.
+ *
+ * @author Benedikt Full
+ */
+final class ViewManagerMXBeanImpl implements ViewManagerMXBean {
+
+  private final ViewManager viewManager;
+
+  ViewManagerMXBeanImpl(ViewManager viewManager) {
+    this.viewManager = viewManager;
+  }
+
+  @Override
+  public int getLiveViewCount() {
+    return inventory().getLiveViewCount();
+  }
+
+  @Override
+  public int getCollectedViewEntryCount() {
+    return inventory().getCollectedViewEntryCount();
+  }
+
+  @Override
+  public int getLiveAlertCount() {
+    return inventory().getLiveAlertCount();
+  }
+
+  @Override
+  public int getCollectedAlertEntryCount() {
+    return inventory().getCollectedAlertEntryCount();
+  }
+
+  @Override
+  public Map<String, Integer> getLiveViewCountsByType() {
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    for (ViewTypeInventory viewType : inventory().getViewTypes()) {
+      counts.put(viewType.getTypeName(), viewType.getViewCount());
+    }
+    return counts;
+  }
+
+  @Override
+  public Map<String, Long> getNodeCountsByType() {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    for (ViewTypeInventory viewType : inventory().getViewTypes()) {
+      counts.put(viewType.getTypeName(), viewType.getNodeCount());
+    }
+    return counts;
+  }
+
+  @Override
+  public long getNodeCount() {
+    return inventory().getNodeCount();
+  }
+
+  @Override
+  public long getEstimatedRetainedBytes() {
+    return inventory().getEstimatedRetainedBytes();
+  }
+
+  @Override
+  public String getInventoryReport() {
+    return inventory().toString();
+  }
+
+  @Override
+  public void cleanUpRegistries() {
+    viewManager.cleanUpRegistries();
+  }
+
+  private ViewInventory inventory() {
+    return ViewManager.callOnFxThread(viewManager::inventory);
+  }
+}
@@ -0,0 +1,140 @@
+package de.fullben.mvcfx;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A bounded pool of {@link Recyclable} views of the same type, which allows views that are created
+ * and discarded frequently (e.g. the contents of tabs) to be reused instead of having their node
+ * hierarchy built anew for every model.
+ *
+ * <p>Views are obtained from the pool by calling {@link #acquire(Object, Controller)}, which either
+ * rebinds a parked view to the given model and controller or creates a new view using the factory
+ * of the pool. Views which are no longer needed are handed back by calling {@link
+ * #release(View)}, which unbinds them from their model and parks them until the next acquisition.
+ * If the pool is full, released views are disposed instead.
+ *
+ * <pre>
+ *   private static final ViewPool&lt;ItemModel, ItemController, ItemView&gt; VIEWS =
+ *       new ViewPool&lt;&gt;(4, ItemView::new);
+ *   ...
+ *   view = VIEWS.acquire(model, this);
+ *   ...
+ *   VIEWS.release(view);
+ * </pre>
+ *
+ * <p>Parked views remain registered with the {@link ViewManager}, so that they are kept up to date
+ * with the application theme. Like all other operations on user interface components, the methods
+ * of a pool must be called on the JavaFX application thread.
+ *
+ * @see Recyclable
+ * @param <ModelType> the type of the model of the pooled views
+ * @param <ControllerType> the type of the controller of the pooled views
+ * @param <ViewType> the type of the pooled views
+ * @author Benedikt Full
+ */
+public final class ViewPool<
+    ModelType,
+    ControllerType extends Controller,
+    ViewType extends View<ModelType, ControllerType> & Recyclable> {
+
+  private final int capacity;
+  private final ViewFactory<ModelType, ControllerType, ViewType> factory;
+  private final Deque<ViewType> parked;
+
+  /**
+   * Creates a new, empty pool.
+   *
+   * @param capacity the maximum number of views parked in the pool, must be positive
+   * @param factory creates new views if the pool is empty, must not be {@code null}
+   * @throws IllegalArgumentException if the given capacity is not positive
+   */
+  public ViewPool(int capacity, ViewFactory<ModelType, ControllerType, ViewType> factory) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.capacity = capacity;
+    this.factory = requireNonNull(factory);
+    parked = new ArrayDeque<>(capacity);
+  }
+
+  /**
+   * Returns a view for the given model and controller. If the pool contains a parked view, that
+   * view is bound to the given model and controller (see {@link View#bindModel()}). Otherwise, a
+   * new view is created.
+   *
+   * @param model the model of the view
+   * @param controller the controller of the view
+   * @return the view, never {@code null}
+   * @throws IOException if a new view has to be created and this fails
+   */
+  public ViewType acquire(ModelType model, ControllerType controller) throws IOException {
+    ViewType view = parked.pollFirst();
+    if (view == null) {
+      return requireNonNull(factory.create(model, controller));
+    }
+    view.rebind(model, controller);
+    return view;
+  }
+
+  /**
+   * Hands the given view back to the pool. The view is unbound from its model and controller and
+   * parked, or disposed if the pool is full. The view must not be used by the caller anymore. Has
+   * no effect if the view has been disposed already.
+   *
+   * @param view a view obtained from this pool
+   */
+  public void release(ViewType view) {
+    if (view.isDisposed() || parked.contains(view)) {
+      return;
+    }
+    if (parked.size() >= capacity) {
+      view.dispose();
+      return;
+    }
+    view.unbind();
+    parked.addFirst(view);
+  }
+
+  /**
+   * Returns the number of views currently parked in the pool.
+   *
+   * @return the number of parked views
+   */
+  public int size() {
+    return parked.size();
+  }
+
+  /** Disposes all views parked in the pool. */
+  public void clear() {
+    ViewType view;
+    while ((view = parked.pollFirst()) != null) {
+      view.dispose();
+    }
+  }
+
+  /**
+   * Creates the views of a {@link ViewPool}.
+   *
+   * @param <ModelType> the type of the model of the views
+   * @param <ControllerType> the type of the controller of the views
+   * @param <ViewType> the type of the views
+   * @author Benedikt Full
+   */
+  @FunctionalInterface
+  public interface ViewFactory<ModelType, ControllerType extends Controller, ViewType> {
+
+    /**
+     * Creates a new view for the given model and controller.
+     *
+     * @param model the model of the view
+     * @param controller the controller of the view
+     * @return the new view
+     * @throws IOException if the view cannot be loaded
+     */
+    ViewType create(ModelType model, ControllerType controller) throws IOException;
+  }
+}
@@ -0,0 +1,271 @@
+package de.fullben.mvcfx;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.ResourceBundle;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Prepares {@link FxmlView}s on worker threads before they are actually needed, e.g. while the
+ * application is starting up.
+ *
+ * <p>The views to be preloaded are declared in the order they should be prepared in. Each view may
+ * depend on previously declared views, in which case its preparation only starts once all of its
+ * dependencies have been prepared. Views without a dependency between them are prepared in
+ * parallel.
+ *
+ * <pre>
+ *   new ViewPreloader()
+ *       .preload(MainView.class, resources)
+ *       .preload(FileTabView.class, resources)
+ *       .preload(PreferencesView.class, resources, MainView.class)
+ *       .start();
+ * </pre>
+ *
+ * <p>Preparing a view means initializing its class and resolving its {@code fxml} file. For views
+ * with a {@link CompiledFxml}, the node hierarchy of the view is built as well. The hierarchy is
+ * handed over to the next instance of the view type which is loaded with the same resources, so
+ * that the instance only has to have its fields injected and its event handlers bound. Loading a
+ * view never waits for its preparation: should the view be loaded while its hierarchy is still
+ * being built, the view is loaded as usual and the hierarchy is discarded once built, and if the
+ * preparation has not started yet, it is skipped. For views loaded by an {@link
+ * javafx.fxml.FXMLLoader}, the classes imported by the {@code fxml} file are initialized, but the
+ * file itself is still parsed when an instance of the view is loaded.
+ *
+ * <p>Only one prebuilt hierarchy is kept per view type; instances loaded after the first one are
+ * loaded as usual. Hierarchies which have not been handed over within the expiry time of the
+ * preloader (one minute by default) are discarded, so that views which are never loaded do not keep
+ * their hierarchy in memory. Failures encountered while preloading are not reported, the affected
+ * views are simply loaded as usual, which will then surface the error.
+ *
+ * @see FxmlView
+ * @author Benedikt Full
+ */
+public final class ViewPreloader {
+
+  private static final Duration DEFAULT_EXPIRY = Duration.ofMinutes(1);
+  private static final Map<Class<?>, Preload> PENDING = new ConcurrentHashMap<>();
+  private static final Pattern IMPORT = Pattern.compile("<\\?import\\s+([\\w.$]+)\\s*\\?>");
+  private final Executor evictor;
+  private final Map<Class<?>, Preload> preloads;
+  private boolean started;
+
+  /**
+   * Creates a new preloader without any views to preload, which discards hierarchies that have not
+   * been handed over to a view one minute after they have been built.
+   */
+  public ViewPreloader() {
+    this(DEFAULT_EXPIRY);
+  }
+
+  /**
+   * Creates a new preloader without any views to preload, which discards hierarchies that have not
+   * been handed over to a view within the given time after they have been built.
+   *
+   * @param expiry the time preloaded hierarchies are kept for, must be positive
+   * @throws IllegalArgumentException if the expiry time is not positive
+   */
+  public ViewPreloader(Duration expiry) {
+    requireNonNull(expiry, "Expiry must not be null");
+    if (expiry.isNegative() || expiry.isZero()) {
+      throw new IllegalArgumentException("Expiry must be positive");
+    }
+    evictor = CompletableFuture.delayedExecutor(expiry.toNanos(), TimeUnit.NANOSECONDS);
+    preloads = new LinkedHashMap<>();
+    started = false;
+  }
+
+  /**
+   * Declares that the given view type is to be preloaded with the given resources, once all of the
+   * given dependencies have been preloaded.
+   *
+   * @param viewType the class of the view, must not be {@code null}
+   * @param resources the resources the view will be created with, must not be {@code null}
+   * @param dependencies previously declared view types which must be preloaded before the given one
+   * @return this preloader
+   * @throws IllegalArgumentException if the view type has already been declared, or if a
+   *     dependency has not been declared before
+   * @throws IllegalStateException if the preloader has already been started
+   */
+  public ViewPreloader preload(
+      Class<? extends FxmlView<?, ?>> viewType,
+      ResourceBundle resources,
+      Class<?>... dependencies) {
+    requireNonNull(viewType, "View type must not be null");
+    requireNonNull(resources, "Resources must not be null");
+    if (started) {
+      throw new IllegalStateException("Cannot declare views, preloader has been started already");
+    }
+    if (preloads.containsKey(viewType)) {
+      throw new IllegalArgumentException("View has been declared already: " + viewType.getName());
+    }
+    Preload[] required = new Preload[dependencies.length];
+    for (int i = 0; i < dependencies.length; i++) {
+      required[i] = preloads.get(dependencies[i]);
+      if (required[i] == null) {
+        throw new IllegalArgumentException(
+            "Dependency of "
+                + viewType.getName()
+                + " has not been declared before: "
+                + dependencies[i].getName());
+      }
+    }
+    preloads.put(viewType, new Preload(viewType, resources, required));
+    return this;
+  }
+
+  /**
+   * Starts preloading the declared views on worker threads. Views of a type already being
+   * preloaded by another preloader are ignored.
+   *
+   * @return a future which completes once all declared views have been preloaded (or skipped)
+   * @throws IllegalStateException if the preloader has already been started
+   */
+  public CompletableFuture<Void> start() {
+    if (started) {
+      throw new IllegalStateException("Preloader has been started already");
+    }
+    started = true;
+    CompletableFuture<?>[] results = new CompletableFuture<?>[preloads.size()];
+    int i = 0;
+    for (Entry<Class<?>, Preload> entry : preloads.entrySet()) {
+      Preload preload = entry.getValue();
+      if (PENDING.putIfAbsent(entry.getKey(), preload) != null) {
+        preload.skip();
+      }
+      results[i++] = preload.start();
+      preload.result.whenCompleteAsync(
+          (preloaded, e) -> PENDING.remove(entry.getKey(), preload), evictor);
+    }
+    return CompletableFuture.allOf(results);
+  }
+
+  /**
+   * Returns the node hierarchy which has been preloaded for the given view type with the given
+   * resources, without waiting for it to be completed. The hierarchy is handed out only once.
+   *
+   * @param viewType the class of the view being loaded
+   * @param resources the resources of the view being loaded
+   * @return the node hierarchy, or {@code null} if no matching hierarchy has been preloaded or if
+   *     it is still being built
+   */
+  static PreloadedFxml take(Class<?> viewType, ResourceBundle resources) {
+    Preload preload = PENDING.remove(viewType);
+    if (preload == null || preload.skip()) {
+      return null;
+    }
+    PreloadedFxml preloaded;
+    try {
+      // Waiting would block the loading thread, usually the JavaFX application thread
+      preloaded = preload.result.getNow(null);
+    } catch (CompletionException | CancellationException e) {
+      return null;
+    }
+    return preloaded != null && preloaded.getResources() == resources ? preloaded : null;
+  }
+
+  /**
+   * Returns whether a preload of the given view type is pending, i.e. has neither been handed over
+   * to a view nor been discarded.
+   *
+   * @param viewType the class of the view
+   * @return {@code true} if a preload is pending, {@code false} otherwise
+   */
+  static boolean isPending(Class<?> viewType) {
+    return PENDING.containsKey(viewType);
+  }
+
+  private static PreloadedFxml prepare(Class<?> viewType, ResourceBundle resources)
+      throws ReflectiveOperationException, IOException {
+    Class.forName(viewType.getName(), true, viewType.getClassLoader());
+    CompiledFxmlLoader.prepare(viewType);
+    CompiledFxml compiledFxml = CompiledFxmlLoader.compiledFxmlOf(viewType);
+    if (compiledFxml != null) {
+      return PreloadedFxml.build(compiledFxml, resources);
+    }
+    initializeImports(FxmlResources.find(viewType), viewType.getClassLoader());
+    return null;
+  }
+
+  private static void initializeImports(URL fxml, ClassLoader classLoader) throws IOException {
+    String contents;
+    try (InputStream in = fxml.openStream()) {
+      contents = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+    Matcher matcher = IMPORT.matcher(contents);
+    while (matcher.find()) {
+      try {
+        Class.forName(matcher.group(1), true, classLoader);
+      } catch (ClassNotFoundException e) {
+        // Wildcard or unknown import, the FXMLLoader will take care of it
+      }
+    }
+  }
+
+  private static final class Preload {
+
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int SKIPPED = 2;
+    private final Class<?> viewType;
+    private final ResourceBundle resources;
+    private final Preload[] dependencies;
+    private final AtomicInteger state;
+    private final CompletableFuture<PreloadedFxml> result;
+
+    private Preload(Class<?> viewType, ResourceBundle resources, Preload[] dependencies) {
+      this.viewType = viewType;
+      this.resources = resources;
+      this.dependencies = dependencies;
+      state = new AtomicInteger(NEW);
+      result = new CompletableFuture<>();
+    }
+
+    /**
+     * Prevents the preparation of the view from being started.
+     *
+     * @return {@code true} if the preparation has not been started, {@code false} if it has
+     */
+    private boolean skip() {
+      return state.compareAndSet(NEW, SKIPPED) || state.get() == SKIPPED;
+    }
+
+    private CompletableFuture<PreloadedFxml> start() {
+      CompletableFuture<?>[] required = new CompletableFuture<?>[dependencies.length];
+      for (int i = 0; i < dependencies.length; i++) {
+        // Failed dependencies do not prevent the view from being prepared
+        required[i] = dependencies[i].result.handle((preloaded, e) -> null);
+      }
+      CompletableFuture.allOf(required).thenRunAsync(this::run, FxmlView.LOAD_EXECUTOR);
+      return result;
+    }
+
+    private void run() {
+      if (!state.compareAndSet(NEW, RUNNING)) {
+        result.complete(null);
+        return;
+      }
+      try {
+        result.complete(prepare(viewType, resources));
+      } catch (Exception | LinkageError e) {
+        result.completeExceptionally(e);
+      }
+    }
+  }
+}
@@ -1,19 +1,48 @@
 package de.fullben.mvcfx.os;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Wrapper for running a command as a separate process in the environment hosting the JVM. Can be
  * used e.g. for launching programs found in the hosting environment.
  *
+ * <p>A command can either be run on the calling thread with {@link #run()}, which waits for the
+ * process to terminate, or with {@link #runAsync(Consumer, Duration)}, which runs the process on a
+ * dedicated thread pool and thus never blocks the caller, e.g. the JavaFX application thread.
+ * Programs which keep running on their own, such as file managers, are best started with {@link
+ * #launch()}, which neither waits for nor reads from the process.
+ *
  * @author Benedikt Full
  */
 public class Command {
 
+  /** The maximum number of characters of an output line passed on by asynchronous runs. */
+  static final int MAX_LINE_LENGTH = 8192;
+
+  private static final Logger LOG = Logger.getLogger(Command.class.getName());
+  private static final ExecutorService EXECUTOR =
+      Executors.newCachedThreadPool(
+          runnable -> {
+            Thread thread = new Thread(runnable, "mvcfx-command");
+            thread.setDaemon(true);
+            return thread;
+          });
   private final ProcessBuilder processBuilder;
 
   Command(String... command) {
@@ -21,6 +50,11 @@ public class Command {
     processBuilder = new ProcessBuilder(command).redirectErrorStream(true);
   }
 
+  Command(Path directory, String... command) {
+    this(command);
+    processBuilder.directory(directory.toFile());
+  }
+
   public List<String> getCommand() {
     return new ArrayList<>(processBuilder.command());
   }
@@ -48,4 +82,136 @@ public class Command {
     // Strip to remove trailing line separator (and leading/trailing whitespace added by output)
     return result.toString().strip();
   }
+
+  /**
+   * Starts the command as a separate process and returns right away. The output of the process is
+   * discarded by the operating system, so the process does not depend on the JVM reading it, and
+   * neither its output nor its termination are waited for. Should the process terminate with a
+   * non-zero exit code, this is logged.
+   *
+   * @throws IOException if the process cannot be started, e.g. because the program to be executed
+   *     was not found, access to the program was denied, or the command contained an illegal
+   *     character
+   */
+  public void launch() throws IOException {
+    Process process =
+        new ProcessBuilder(processBuilder.command())
+            .directory(processBuilder.directory())
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectErrorStream(true)
+            .start();
+    process.getOutputStream().close();
+    process
+        .onExit()
+        .thenAccept(
+            p -> {
+              if (p.exitValue() != 0) {
+                LOG.log(
+                    Level.FINE,
+                    "Launched command {0} exited with code {1}",
+                    new Object[] {processBuilder.command(), p.exitValue()});
+              }
+            });
+  }
+
+  /**
+   * Executes the command as a separate process without waiting for it, discarding its output.
+   *
+   * @return the future exit code of the process
+   * @see #runAsync(Consumer, Duration)
+   */
+  public CompletableFuture<Integer> runAsync() {
+    return runAsync(line -> {}, null);
+  }
+
+  /**
+   * Executes the command provided to this object's constructor as a separate process on a
+   * dedicated thread pool. The returned future is completed with the exit code of the process once
+   * it has terminated, or exceptionally if the process cannot be started or its output cannot be
+   * read.
+   *
+   * <p>The output of the process is passed to the given consumer line by line, on a thread of the
+   * pool, as it is produced. Only the current line is held in memory, and lines longer than {@value
+   * #MAX_LINE_LENGTH} characters are truncated, so processes producing lots of output do not
+   * exhaust the memory of the JVM.
+   *
+   * <p>Cancelling the returned future destroys the process. Should the process not terminate within
+   * the given timeout, it is destroyed as well, and the future is completed exceptionally with a
+   * {@link java.util.concurrent.TimeoutException TimeoutException}.
+   *
+   * @param output the consumer of the output lines of the process
+   * @param timeout the maximum time to wait for the process to terminate, or {@code null} to wait
+   *     without limit
+   * @return the future exit code of the process
+   */
+  public CompletableFuture<Integer> runAsync(Consumer<String> output, Duration timeout) {
+    requireNonNull(output);
+    CompletableFuture<Integer> result = new CompletableFuture<>();
+    if (timeout != null) {
+      result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    EXECUTOR.execute(() -> execute(result, output));
+    return result;
+  }
+
+  private void execute(CompletableFuture<Integer> result, Consumer<String> output) {
+    if (result.isDone()) {
+      return;
+    }
+    Process process;
+    try {
+      process = processBuilder.start();
+    } catch (IOException e) {
+      result.completeExceptionally(e);
+      return;
+    }
+    // Covers cancellation and timeouts, the process has terminated already otherwise
+    result.whenComplete((exitCode, e) -> process.destroyForcibly());
+    try (Reader reader = new InputStreamReader(process.getInputStream())) {
+      readLines(reader, output);
+      result.complete(process.waitFor());
+    } catch (IOException | RuntimeException e) {
+      // Reading fails as well if the process has been destroyed, in which case this has no effect
+      result.completeExceptionally(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * Reads the given reader line by line, passing each line to the given consumer. Lines may be
+   * terminated by a line feed, a carriage return, or both. Lines exceeding {@value
+   * #MAX_LINE_LENGTH} characters are truncated.
+   *
+   * @param reader the reader to be read until its end
+   * @param output the consumer of the lines
+   * @throws IOException if reading fails
+   */
+  static void readLines(Reader reader, Consumer<String> output) throws IOException {
+    StringBuilder line = new StringBuilder();
+    char[] buffer = new char[1024];
+    boolean carriageReturn = false;
+    int read;
+    while ((read = reader.read(buffer)) != -1) {
+      for (int i = 0; i < read; i++) {
+        char c = buffer[i];
+        if (c == '\n' && carriageReturn) {
+          carriageReturn = false;
+        } else if (c == '\n' || c == '\r') {
+          output.accept(line.toString());
+          line.setLength(0);
+          carriageReturn = c == '\r';
+        } else {
+          carriageReturn = false;
+          if (line.length() < MAX_LINE_LENGTH) {
+            line.append(c);
+          }
+        }
+      }
+    }
+    if (line.length() > 0) {
+      output.accept(line.toString());
+    }
+  }
 }
@@ -0,0 +1,132 @@
+package de.fullben.mvcfx.os;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * {@code OperatingSystem} implementation for supporting operations on Linux operating systems.
+ *
+ * <p>The file manager is opened via {@code xdg-open}, which starts the file manager of the desktop
+ * environment. The terminal is taken from the {@value #TERMINAL_PROPERTY} system property, the
+ * {@code TERMINAL} environment variable, or the first of several common terminal emulators found
+ * on the {@code PATH}, in this order, and may also be set with {@link #setTerminal(String)}. All
+ * programs are launched detached (see {@link Command#launch()}), so the calling thread never waits
+ * for them.
+ *
+ * @author Benedikt Full
+ */
+public class Linux extends OperatingSystem {
+
+  /** The name of the system property which may be used to configure the terminal. */
+  public static final String TERMINAL_PROPERTY = "mvcfx.linux.terminal";
+
+  private static final String[] TERMINALS = {
+    "x-terminal-emulator", "gnome-terminal", "konsole", "xfce4-terminal", "xterm"
+  };
+  private final String path;
+  private volatile String terminal;
+
+  Linux(String name) {
+    this(name, System.getenv("PATH"), configuredTerminal());
+  }
+
+  /**
+   * Creates a new instance which searches the given {@code PATH} for programs.
+   *
+   * @param name the name of the operating system
+   * @param path the directories to search for programs, separated by the path separator
+   * @param terminal the terminal program, or {@code null} to search for a common terminal
+   */
+  Linux(String name, String path, String terminal) {
+    super(name);
+    this.path = path == null ? "" : path;
+    this.terminal = terminal;
+  }
+
+  /**
+   * Sets the terminal program opened by {@link #openCommandLineInterface(Path)}.
+   *
+   * @param terminal the name or path of the terminal program, or {@code null} to search for a
+   *     common terminal
+   */
+  public void setTerminal(String terminal) {
+    this.terminal = terminal;
+  }
+
+  /**
+   * Opens the file manager of the desktop environment at the given directory.
+   *
+   * @param directory the initial directory of the file manager
+   * @throws IOException if the given directory does not exist or {@code xdg-open} cannot be
+   *     launched
+   */
+  @Override
+  public void openFileManager(Path directory) throws IOException {
+    assertDirectoryExists(directory);
+    new Command(find("xdg-open"), directory.toAbsolutePath().toString()).launch();
+  }
+
+  /**
+   * Opens the terminal at the given directory. The terminal is started with the directory as its
+   * working directory.
+   *
+   * @param directory the initial directory of the terminal
+   * @throws IOException if the given directory does not exist, or no terminal is configured and
+   *     none can be found, or the terminal cannot be launched
+   */
+  @Override
+  public void openCommandLineInterface(Path directory) throws IOException {
+    assertDirectoryExists(directory);
+    String program = terminal;
+    if (program == null) {
+      for (String candidate : TERMINALS) {
+        if (search(candidate) != null) {
+          program = candidate;
+          break;
+        }
+      }
+      if (program == null) {
+        throw new IOException("No terminal found, set " + TERMINAL_PROPERTY + " to configure one");
+      }
+    }
+    new Command(directory.toAbsolutePath(), find(program)).launch();
+  }
+
+  /** Returns the absolute path of the given program, or the program as is if it is not found. */
+  private String find(String program) {
+    Path found = search(program);
+    return found != null ? found.toString() : program;
+  }
+
+  private Path search(String program) {
+    if (program.contains("/")) {
+      return Files.isExecutable(Paths.get(program)) ? Paths.get(program) : null;
+    }
+    for (String directory : path.split(File.pathSeparator)) {
+      if (directory.isEmpty()) {
+        continue;
+      }
+      try {
+        Path candidate = Paths.get(directory, program);
+        if (Files.isRegularFile(candidate) && Files.isExecutable(candidate)) {
+          return candidate.toAbsolutePath();
+        }
+      } catch (InvalidPathException e) {
+        // Ignore malformed entries of the path
+      }
+    }
+    return null;
+  }
+
+  private static String configuredTerminal() {
+    String terminal = System.getProperty(TERMINAL_PROPERTY);
+    if (terminal == null || terminal.isBlank()) {
+      terminal = System.getenv("TERMINAL");
+    }
+    return terminal == null || terminal.isBlank() ? null : terminal;
+  }
+}
@@ -36,6 +36,6 @@ public class MacOs extends OperatingSystem {
   @Override
   public void openCommandLineInterface(Path directory) throws IOException {
     assertDirectoryExists(directory);
-    new Command("/usr/bin/open", "-a", "Terminal", "cd", quoteAbsolutePath(directory)).run();
+    new Command("/usr/bin/open", "-a", "Terminal", "cd", quoteAbsolutePath(directory)).launch();
   }
 }
@@ -10,6 +10,9 @@ import java.nio.file.Path;
  * application. It provides convenient access to certain operations on the host, such as opening a
  * file manager. The current host can be obtained from the {@link #hosting()} method.
  *
+ * <p>Implementations launch the programs of the host without waiting for them (see {@link
+ * Command#launch()}), so the operations may safely be called on the JavaFX application thread.
+ *
  * <p>Alternatively, and for more operations, refer to the {@link java.awt.Desktop Desktop} API.
  *
  * @author Benedikt Full
@@ -74,9 +77,9 @@ public abstract class OperatingSystem {
     return name;
   }
 
-  static String openFileManager(String fileManagerCommand, Path directory) throws IOException {
+  static void openFileManager(String fileManagerCommand, Path directory) throws IOException {
     assertDirectoryExists(directory);
-    return new Command(fileManagerCommand, quoteAbsolutePath(directory)).run();
+    new Command(fileManagerCommand, quoteAbsolutePath(directory)).launch();
   }
 
   static void assertDirectoryExists(Path path) throws IOException {
@@ -95,6 +98,8 @@ public abstract class OperatingSystem {
       return new Windows(osName);
     } else if (PlatformUtil.isMac()) {
       return new MacOs(osName);
+    } else if (PlatformUtil.isLinux()) {
+      return new Linux(osName);
     } else {
       return new UnsupportedOperatingSystem(osName);
     }
@@ -36,6 +36,6 @@ public class Windows extends OperatingSystem {
   @Override
   public void openCommandLineInterface(Path directory) throws IOException {
     assertDirectoryExists(directory);
-    new Command("cmd.exe", "/c", "start", "cd", quoteAbsolutePath(directory)).run();
+    new Command("cmd.exe", "/c", "start", "cd", quoteAbsolutePath(directory)).launch();
   }
 }
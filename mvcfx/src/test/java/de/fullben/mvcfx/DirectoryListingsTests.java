@@ -0,0 +1,86 @@
+package de.fullben.mvcfx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Some basic smoke tests for the {@link DirectoryListings}.
+ *
+ * @author Benedikt Full
+ */
+public class DirectoryListingsTests {
+
+  @Test
+  public void listingStreamsBatchesAndCompletesSorted(@TempDir Path directory) throws Exception {
+    // Given
+    int fileCount = DirectoryListings.BATCH_SIZE + 10;
+    for (int i = 0; i < fileCount; i++) {
+      Files.createFile(directory.resolve("file" + i + ".txt"));
+    }
+    Files.createDirectory(directory.resolve("zz"));
+    DirectoryListings listings = new DirectoryListings(Runnable::run);
+    RecordingObserver observer = new RecordingObserver();
+    // When
+    listings.list(directory, observer);
+    List<DirectoryListings.Entry> entries = observer.completion.get(10, TimeUnit.SECONDS);
+    // Then
+    assertEquals(2, observer.batchSizes.size());
+    assertEquals(DirectoryListings.BATCH_SIZE, (int) observer.batchSizes.get(0));
+    assertEquals(fileCount + 1, entries.size());
+    assertTrue(entries.get(0).isDirectory());
+    assertEquals("zz", entries.get(0).getName());
+  }
+
+  @Test
+  public void changedDirectoryIsDroppedFromCache(@TempDir Path directory) throws Exception {
+    // Given
+    Files.createFile(directory.resolve("a.txt"));
+    DirectoryListings listings = new DirectoryListings(Runnable::run);
+    RecordingObserver observer = new RecordingObserver();
+    listings.list(directory, observer);
+    observer.completion.get(10, TimeUnit.SECONDS);
+    assertNotNull(listings.getCached(directory));
+    // When
+    Files.createFile(directory.resolve("b.txt"));
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (listings.getCached(directory) != null && System.nanoTime() < deadline) {
+      Thread.sleep(50);
+    }
+    // Then
+    assertNull(listings.getCached(directory));
+  }
+
+  private static class RecordingObserver implements DirectoryListings.Observer {
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private final CompletableFuture<List<DirectoryListings.Entry>> completion =
+        new CompletableFuture<>();
+
+    @Override
+    public void found(List<DirectoryListings.Entry> entries) {
+      batchSizes.add(entries.size());
+    }
+
+    @Override
+    public void completed(List<DirectoryListings.Entry> entries) {
+      completion.complete(entries);
+    }
+
+    @Override
+    public void failed(IOException e) {
+      completion.completeExceptionally(e);
+    }
+  }
+}
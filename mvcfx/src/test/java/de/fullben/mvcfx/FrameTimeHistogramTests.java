@@ -0,0 +1,44 @@
+package de.fullben.mvcfx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Some basic smoke tests for the {@link FrameTimeHistogram}.
+ *
+ * @author Benedikt Full
+ */
+public class FrameTimeHistogramTests {
+
+  @Test
+  public void valueAtPercentileIsWithinRelativePrecision() {
+    // Given
+    FrameTimeHistogram histogram = new FrameTimeHistogram();
+    for (long millis = 1; millis <= 100; millis++) {
+      histogram.record(millis * 1_000_000);
+    }
+    // When
+    long median = histogram.valueAtPercentile(50);
+    long p99 = histogram.valueAtPercentile(99);
+    // Then
+    assertTrue(Math.abs(median - 50_000_000) <= 50_000_000 / 32, "Median was " + median);
+    assertTrue(Math.abs(p99 - 99_000_000) <= 99_000_000 / 32, "p99 was " + p99);
+    assertEquals(100_000_000, histogram.valueAtPercentile(100));
+  }
+
+  @Test
+  public void copyIsIndependentOfOriginal() {
+    // Given
+    FrameTimeHistogram histogram = new FrameTimeHistogram();
+    histogram.record(16_000_000);
+    FrameTimeHistogram copy = histogram.copy();
+    // When
+    histogram.record(500_000_000);
+    // Then
+    assertEquals(1, copy.getTotalCount());
+    assertEquals(16_000_000, copy.getMax());
+    assertEquals(2, histogram.getTotalCount());
+  }
+}
@@ -0,0 +1,57 @@
+package de.fullben.mvcfx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Some basic smoke tests for the aggregation of samples into {@link FxThreadStall}s.
+ *
+ * @author Benedikt Full
+ */
+public class FxThreadStallTests {
+
+  private static final StackTraceElement READ = frame("java.io.FileInputStream", "readBytes");
+  private static final StackTraceElement WRITE = frame("java.io.FileOutputStream", "writeBytes");
+  private static final StackTraceElement MATCH = frame("app.FileHandler", "matchesContents");
+  private static final StackTraceElement SAVE = frame("app.FileHandler", "saveContents");
+  private static final StackTraceElement LOOP = frame("com.sun.glass.ui.EventLoop", "enter");
+
+  @Test
+  public void aggregateAttributesSamplesToApplicationFrames() {
+    // Given
+    List<StackTraceElement[]> samples =
+        List.of(
+            new StackTraceElement[] {READ, MATCH, LOOP},
+            new StackTraceElement[] {READ, MATCH, LOOP},
+            new StackTraceElement[] {WRITE, SAVE, LOOP});
+    // When
+    FxThreadStall stall = FxThreadStall.aggregate(Duration.ofMillis(300), samples);
+    // Then
+    assertEquals(3, stall.getSampleCount());
+    assertEquals(2, stall.getDistinctStackCount());
+    assertEquals(MATCH, stall.getSignature());
+    assertEquals(2, stall.getHotFrames().get(0).getSampleCount());
+    assertEquals(SAVE, stall.getHotFrames().get(1).getFrame());
+    assertEquals(List.of(READ, MATCH, LOOP), stall.getStackTrace());
+  }
+
+  @Test
+  public void aggregateFallsBackToTopFrameWithoutApplicationFrames() {
+    // Given
+    List<StackTraceElement[]> samples =
+        Collections.singletonList(new StackTraceElement[] {READ, LOOP});
+    // When
+    FxThreadStall stall = FxThreadStall.aggregate(Duration.ofMillis(300), samples);
+    // Then
+    assertEquals(1, stall.getHotFrames().size());
+    assertEquals(READ, stall.getSignature());
+  }
+
+  private static StackTraceElement frame(String className, String methodName) {
+    return new StackTraceElement(className, methodName, className + ".java", 1);
+  }
+}
@@ -0,0 +1,65 @@
+package de.fullben.mvcfx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.Locale.Category;
+import java.util.ResourceBundle;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Some basic smoke tests for the {@link MessageFormats}.
+ *
+ * @author Benedikt Full
+ */
+public class MessageFormatsTests {
+
+  @Test
+  public void formatMatchesUncachedFormat() {
+    // Given
+    ResourceBundle bundle = new Messages();
+    // When
+    String first = MessageFormats.format(bundle, "title", "Notes.txt");
+    String second = MessageFormats.format(bundle, "title", "Todo.txt");
+    // Then
+    assertEquals("Save 'Notes.txt'?", first);
+    assertEquals("Save 'Todo.txt'?", second);
+  }
+
+  @Test
+  public void formatWithoutArgumentsReturnsPatternAsIs() {
+    // Given
+    ResourceBundle bundle = new Messages();
+    // When
+    String title = MessageFormats.format(bundle, "title");
+    // Then
+    assertEquals("Save ''{0}''?", title);
+  }
+
+  @Test
+  public void formatFollowsDefaultLocale() {
+    // Given
+    ResourceBundle bundle = new Messages();
+    Locale defaultLocale = Locale.getDefault(Category.FORMAT);
+    try {
+      Locale.setDefault(Category.FORMAT, Locale.US);
+      MessageFormats.format(bundle, "count", 1234);
+      // When
+      Locale.setDefault(Category.FORMAT, Locale.GERMANY);
+      String count = MessageFormats.format(bundle, "count", 1234);
+      // Then
+      assertEquals("1.234 files", count);
+    } finally {
+      Locale.setDefault(Category.FORMAT, defaultLocale);
+    }
+  }
+
+  private static class Messages extends ListResourceBundle {
+
+    @Override
+    protected Object[][] getContents() {
+      return new Object[][] {{"title", "Save ''{0}''?"}, {"count", "{0,number,integer} files"}};
+    }
+  }
+}
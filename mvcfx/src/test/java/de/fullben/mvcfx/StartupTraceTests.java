@@ -0,0 +1,49 @@
+package de.fullben.mvcfx;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Some basic smoke tests for the {@link StartupTrace}.
+ *
+ * @author Benedikt Full
+ */
+public class StartupTraceTests {
+
+  @Test
+  public void closedSpanIsWrittenAsCompleteEvent() throws IOException {
+    // Given
+    StartupTrace trace = new StartupTrace("startup.json");
+    // When
+    trace.begin("Load \"MainView\"").close();
+    trace.instant("Ready");
+    StringBuilder json = new StringBuilder();
+    trace.write(json);
+    // Then
+    String output = json.toString();
+    assertTrue(output.startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["), output);
+    assertTrue(output.contains("\"name\":\"JVM startup\""), output);
+    assertTrue(
+        output.contains("\"name\":\"Load \\\"MainView\\\"\",\"cat\":\"mvcfx\",\"ph\":\"X\""),
+        output);
+    assertTrue(output.contains("\"name\":\"Ready\",\"cat\":\"mvcfx\",\"ph\":\"i\""), output);
+    assertTrue(output.contains("\"name\":\"Loaded classes\""), output);
+    assertTrue(output.endsWith("]}"), output);
+  }
+
+  @Test
+  public void traceWithoutOutputDoesNotRecord() throws IOException {
+    // Given
+    StartupTrace trace = new StartupTrace(null);
+    // When
+    trace.begin("Load MainView").close();
+    StringBuilder json = new StringBuilder();
+    trace.write(json);
+    // Then
+    assertFalse(trace.recording());
+    assertFalse(json.toString().contains("Load MainView"));
+  }
+}
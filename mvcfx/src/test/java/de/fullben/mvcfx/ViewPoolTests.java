@@ -0,0 +1,71 @@
+package de.fullben.mvcfx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Some basic smoke tests for the {@link ViewPool}.
+ *
+ * @author Benedikt Full
+ */
+public class ViewPoolTests {
+
+  private static final ResourceBundle RESOURCES =
+      new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+          return new Object[0][];
+        }
+      };
+  private static final Controller CONTROLLER = () -> {};
+
+  @Test
+  public void acquireReusesReleasedView() throws Exception {
+    // Given
+    ViewPool<String, Controller, TestView> pool = new ViewPool<>(1, TestView::new);
+    TestView view = pool.acquire("first", CONTROLLER);
+    pool.release(view);
+    // When
+    TestView reused = pool.acquire("second", CONTROLLER);
+    // Then
+    assertSame(view, reused);
+    assertEquals("second", reused.getModel());
+    assertEquals(1, reused.bindings);
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void releaseDisposesViewIfPoolIsFull() throws Exception {
+    // Given
+    ViewPool<String, Controller, TestView> pool = new ViewPool<>(1, TestView::new);
+    TestView first = pool.acquire("first", CONTROLLER);
+    TestView second = pool.acquire("second", CONTROLLER);
+    pool.release(first);
+    // When
+    pool.release(second);
+    // Then
+    assertNotSame(first, second);
+    assertEquals(1, pool.size());
+    assertTrue(second.isDisposed());
+  }
+
+  private static class TestView extends FxmlView<String, Controller> implements Recyclable {
+
+    private int bindings;
+
+    private TestView(String model, Controller controller) {
+      super(model, controller, RESOURCES);
+    }
+
+    @Override
+    protected void bindModel() {
+      bindings++;
+    }
+  }
+}
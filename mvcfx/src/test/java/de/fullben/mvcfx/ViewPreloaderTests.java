@@ -0,0 +1,90 @@
+package de.fullben.mvcfx;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Some basic smoke tests for the declaration of views to be preloaded by the {@link ViewPreloader}.
+ *
+ * @author Benedikt Full
+ */
+public class ViewPreloaderTests {
+
+  private static final ResourceBundle RESOURCES =
+      new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+          return new Object[0][];
+        }
+      };
+
+  @Test
+  public void preloadRejectsUndeclaredDependency() {
+    // Given
+    ViewPreloader preloader = new ViewPreloader();
+    // When, then
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> preloader.preload(FirstView.class, RESOURCES, SecondView.class));
+  }
+
+  @Test
+  public void preloadRejectsDuplicateDeclaration() {
+    // Given
+    ViewPreloader preloader = new ViewPreloader().preload(FirstView.class, RESOURCES);
+    // When, then
+    assertThrows(
+        IllegalArgumentException.class, () -> preloader.preload(FirstView.class, RESOURCES));
+  }
+
+  @Test
+  public void preloadRejectsDeclarationAfterStart() {
+    // Given
+    ViewPreloader preloader = new ViewPreloader();
+    preloader.start();
+    // When, then
+    assertThrows(IllegalStateException.class, () -> preloader.preload(FirstView.class, RESOURCES));
+  }
+
+  @Test
+  public void preloadIsDiscardedAfterExpiry() throws Exception {
+    // Given
+    ViewPreloader preloader =
+        new ViewPreloader(Duration.ofMillis(10)).preload(ThirdView.class, RESOURCES);
+    // When
+    preloader.start().handle((result, e) -> null).get(10, TimeUnit.SECONDS);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (ViewPreloader.isPending(ThirdView.class) && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    // Then
+    assertFalse(ViewPreloader.isPending(ThirdView.class));
+  }
+
+  private static class FirstView extends StatelessFxmlView<Controller> {
+
+    private FirstView(Controller controller, ResourceBundle resources) {
+      super(controller, resources);
+    }
+  }
+
+  private static class SecondView extends StatelessFxmlView<Controller> {
+
+    private SecondView(Controller controller, ResourceBundle resources) {
+      super(controller, resources);
+    }
+  }
+
+  private static class ThirdView extends StatelessFxmlView<Controller> {
+
+    private ThirdView(Controller controller, ResourceBundle resources) {
+      super(controller, resources);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package de.fullben.mvcfx.os;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Some basic smoke tests for the asynchronous execution of a {@link Command}. The commands run a
+ * JVM executing {@link Child}, so the tests do not depend on the programs of the host.
+ *
+ * @author Benedikt Full
+ */
+public class CommandTests {
+
+  @Test
+  public void runAsyncStreamsOutputAndReturnsExitCode() throws Exception {
+    // Given
+    Command command = child("print", "first", "second");
+    List<String> lines = Collections.synchronizedList(new ArrayList<>());
+    // When
+    int exitCode = command.runAsync(lines::add, Duration.ofSeconds(30)).get(30, TimeUnit.SECONDS);
+    // Then
+    assertEquals(3, exitCode);
+    assertEquals(List.of("first", "second"), lines);
+  }
+
+  @Test
+  public void runAsyncFailsOnTimeout() {
+    // Given
+    Command command = child("sleep");
+    // When
+    ExecutionException e =
+        assertThrows(
+            ExecutionException.class,
+            () -> command.runAsync(line -> {}, Duration.ofMillis(500)).get(30, TimeUnit.SECONDS));
+    // Then
+    assertTrue(e.getCause() instanceof TimeoutException);
+  }
+
+  @Test
+  public void readLinesSplitsAndTruncatesLines() throws Exception {
+    // Given
+    String longLine = "x".repeat(Command.MAX_LINE_LENGTH + 100);
+    StringReader reader = new StringReader("a\r\nb\rc\n" + longLine);
+    List<String> lines = new ArrayList<>();
+    // When
+    Command.readLines(reader, lines::add);
+    // Then
+    assertEquals(4, lines.size());
+    assertEquals(List.of("a", "b", "c"), lines.subList(0, 3));
+    assertEquals(Command.MAX_LINE_LENGTH, lines.get(3).length());
+  }
+
+  private static Command child(String... args) {
+    List<String> command = new ArrayList<>();
+    command.add(ProcessHandle.current().info().command().orElse("java"));
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    command.add(Child.class.getName());
+    Collections.addAll(command, args);
+    return new Command(command.toArray(new String[0]));
+  }
+
+  /** Main class of the processes started by the tests. */
+  public static class Child {
+
+    public static void main(String[] args) throws InterruptedException {
+      if (args[0].equals("sleep")) {
+        Thread.sleep(60000);
+        return;
+      }
+      for (int i = 1; i < args.length; i++) {
+        System.out.println(args[i]);
+      }
+      System.exit(3);
+    }
+  }
+}
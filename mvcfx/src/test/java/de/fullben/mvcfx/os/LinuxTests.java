@@ -0,0 +1,77 @@
+package de.fullben.mvcfx.os;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Some basic smoke tests for {@link Linux}, which launch stub scripts instead of the programs of
+ * the host.
+ *
+ * @author Benedikt Full
+ */
+@EnabledOnOs(OS.LINUX)
+public class LinuxTests {
+
+  @Test
+  public void openFileManagerLaunchesXdgOpen(@TempDir Path temp) throws Exception {
+    // Given
+    Path bin = Files.createDirectory(temp.resolve("bin"));
+    Path record = temp.resolve("record");
+    stub(bin.resolve("xdg-open"), "echo \"$1\" > " + record);
+    Linux linux = new Linux("Linux", bin.toString(), null);
+    // When
+    linux.openFileManager(temp);
+    // Then
+    assertEquals(temp.toAbsolutePath().toString(), awaitRecord(record));
+  }
+
+  @Test
+  public void openCommandLineInterfaceLaunchesTerminalInDirectory(@TempDir Path temp)
+      throws Exception {
+    // Given
+    Path bin = Files.createDirectory(temp.resolve("bin"));
+    Path record = temp.resolve("record");
+    stub(bin.resolve("xterm"), "pwd > " + record);
+    Linux linux = new Linux("Linux", bin.toString(), null);
+    // When
+    linux.openCommandLineInterface(temp);
+    // Then
+    assertEquals(temp.toRealPath().toString(), awaitRecord(record));
+  }
+
+  @Test
+  public void openCommandLineInterfaceFailsWithoutTerminal(@TempDir Path temp) {
+    // Given
+    Linux linux = new Linux("Linux", temp.toString(), null);
+    // When, Then
+    assertThrows(IOException.class, () -> linux.openCommandLineInterface(temp));
+  }
+
+  private static void stub(Path script, String command) throws IOException {
+    Files.writeString(script, "#!/bin/sh\n" + command + "\n");
+    script.toFile().setExecutable(true);
+  }
+
+  private static String awaitRecord(Path record) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (System.nanoTime() < deadline) {
+      if (Files.exists(record)) {
+        String content = Files.readString(record).strip();
+        if (!content.isEmpty()) {
+          return content;
+        }
+      }
+      Thread.sleep(20);
+    }
+    throw new AssertionError("Stub was not launched");
+  }
+}